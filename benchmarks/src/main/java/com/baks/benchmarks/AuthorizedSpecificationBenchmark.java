@@ -0,0 +1,68 @@
+package com.baks.benchmarks;
+
+import com.baks.FeatureTestsApplication;
+import com.baks.service.AuthorizationService;
+import com.baks.service.DocumentPlatformService;
+import io.restassured.specification.RequestSpecification;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmarks of per request work performed before any request is sent: creation of authorized
+ * request specification and access to the cached access token. Application context is started
+ * with "stub" profile, access token is requested once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AuthorizedSpecificationBenchmark {
+
+  private ConfigurableApplicationContext applicationContext;
+  private DocumentPlatformService documentPlatformService;
+  private AuthorizationService authorizationService;
+
+  @Setup(Level.Trial)
+  public void startApplicationContext() {
+    applicationContext = new SpringApplicationBuilder(FeatureTestsApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("stub")
+        .run();
+    documentPlatformService = applicationContext.getBean(DocumentPlatformService.class);
+    authorizationService = applicationContext.getBean(AuthorizationService.class);
+    authorizationService.getBearerToken();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopApplicationContext() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public RequestSpecification getAuthorizedDpSpecification() {
+    return documentPlatformService.getAuthorizedDpSpecification();
+  }
+
+  @Benchmark
+  public String getBearerToken() {
+    return authorizationService.getBearerToken();
+  }
+}
@@ -0,0 +1,47 @@
+package com.baks.benchmarks;
+
+import com.baks.utils.DateUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of date formatting and parsing used by test data generation and response checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateUtilBenchmark {
+
+  private static final String ZONED_DATE_TIME = "2023-05-17T10:15:30.123Z";
+
+  @Benchmark
+  public String formatDatePlusDays() {
+    return DateUtil.getCurrentFormattedDatePlusDays(7);
+  }
+
+  @Benchmark
+  public String formatIsoDateTimePlusDays() {
+    return DateUtil.getCurrentIsoDateTimePlusSpecifiedDays(7);
+  }
+
+  @Benchmark
+  public String formatDatePlusMonthsInSpecifiedFormat() {
+    return DateUtil.getCurrentDatePlusMonthsInSpecifiedFormat(1, DateUtil.ZONED_DATE_TIME_FORMAT);
+  }
+
+  @Benchmark
+  public String parseDateFromString() {
+    return DateUtil.getFormattedDateFromString(ZONED_DATE_TIME);
+  }
+}
@@ -0,0 +1,99 @@
+package com.baks.benchmarks;
+
+import com.baks.pojo.response.DocumentDetailsObject;
+import com.baks.utils.DocumentsJsonUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of documents list deserialization, which is performed for every filter response.
+ * Payload size corresponds to default and maximum page size of Document Platform. RestAssured
+ * JsonPath mapping is compared with streaming {@link DocumentsJsonUtil} decoding into list and into
+ * callback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentDetailsDeserializationBenchmark {
+
+  @Param({"30", "1000"})
+  private int documentsCount;
+  private String documentsListJson;
+  private byte[] documentsListBytes;
+
+  @Setup
+  public void prepareDocumentsList() throws JsonProcessingException {
+    List<Map<String, Object>> documents = new ArrayList<>(documentsCount);
+    for (int i = 0; i < documentsCount; i++) {
+      documents.add(getDocumentDetails(i));
+    }
+    documentsListJson = new ObjectMapper().writeValueAsString(Map.of("documents", documents));
+    documentsListBytes = documentsListJson.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<DocumentDetailsObject> getListOfDocumentDetails() {
+    return JsonPath.from(documentsListJson).getList("documents", DocumentDetailsObject.class);
+  }
+
+  @Benchmark
+  public List<DocumentDetailsObject> readListOfDocumentDetails() {
+    return DocumentsJsonUtil.readDocuments(documentsListBytes);
+  }
+
+  @Benchmark
+  public void readDocumentDetailsIntoCallback(Blackhole blackhole) {
+    DocumentsJsonUtil.readDocuments(documentsListBytes, blackhole::consume);
+  }
+
+  private static Map<String, Object> getDocumentDetails(int documentNumber) {
+    String createdAt = "2023-05-17T10:15:30.123Z";
+    Map<String, Object> documentDetails = new LinkedHashMap<>();
+    documentDetails.put("documentId", UUID.randomUUID().toString());
+    documentDetails.put("createdAt", createdAt);
+    documentDetails.put("updatedAt", createdAt);
+    documentDetails.put("createdBy", UUID.randomUUID().toString());
+    documentDetails.put("updatedBy", UUID.randomUUID().toString());
+    documentDetails.put("documentCategoryCode", "AQATEST");
+    documentDetails.put("documentTitle", "Benchmark document " + documentNumber);
+    documentDetails.put("lockStatus", "ACTIVE");
+    documentDetails.put("fileName", "sampleDocument.pdf");
+    documentDetails.put("contentType", "application/pdf");
+    documentDetails.put("pageCount", 1);
+    documentDetails.put("size", 13264);
+    documentDetails.put("md5", "5d41402abc4b2a76b9719d911017c592");
+    documentDetails.put("crc32", "3610a686");
+    documentDetails.put("deleted", false);
+    documentDetails.put("downloadUrl", "https://dev.env.com/v1/documents/download");
+    documentDetails.put("uploadedAt", createdAt);
+    documentDetails.put("expiresAt", null);
+    documentDetails.put("scanStatus", "OK");
+    documentDetails.put("available", true);
+    documentDetails.put("metadata", Map.of("testreference", "reference " + documentNumber,
+        "testdate", "2023-05-17"));
+    return documentDetails;
+  }
+}
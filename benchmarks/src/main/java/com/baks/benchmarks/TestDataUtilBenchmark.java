@@ -0,0 +1,48 @@
+package com.baks.benchmarks;
+
+import com.baks.pojo.response.MetadataObject;
+import com.baks.utils.TestDataUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of metadata generation, which is performed for every uploaded document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestDataUtilBenchmark {
+
+  private List<MetadataObject> documentCategoryMetadata;
+  private Map<String, Object> metadataValues;
+
+  @Setup
+  public void prepareMetadata() {
+    documentCategoryMetadata = TestDataUtil.generateDocumentCategoryMetadata();
+    metadataValues = TestDataUtil.generateMetaDataValues(documentCategoryMetadata);
+  }
+
+  @Benchmark
+  public Map<String, Object> generateMetaDataValues() {
+    return TestDataUtil.generateMetaDataValues(documentCategoryMetadata);
+  }
+
+  @Benchmark
+  public Map<String, Object> createMetaDataHeader() {
+    return TestDataUtil.createMetaDataHeader(metadataValues);
+  }
+}
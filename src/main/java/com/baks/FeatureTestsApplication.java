@@ -1,8 +1,15 @@
 package com.baks;
 
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Bean;
 
 /**
  * Configuration class. &#064;SpringBootApplication same as &#064;Configuration
@@ -13,6 +20,20 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 public class FeatureTestsApplication {
 
   public static void main(String[] args) {
-    SpringApplication.run(FeatureTestsApplication.class, args);
+    System.exit(SpringApplication.exit(SpringApplication.run(FeatureTestsApplication.class, args)));
+  }
+
+  /**
+   * Meter registry for metrics of test and load runs, which are exported in Prometheus format by
+   * {@link com.baks.reporting.PrometheusMetricsExporter}.
+   */
+  @Bean
+  public PrometheusMeterRegistry prometheusMeterRegistry() {
+    PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    new JvmMemoryMetrics().bindTo(meterRegistry);
+    new JvmGcMetrics().bindTo(meterRegistry);
+    new JvmThreadMetrics().bindTo(meterRegistry);
+    new ProcessorMetrics().bindTo(meterRegistry);
+    return meterRegistry;
   }
 }
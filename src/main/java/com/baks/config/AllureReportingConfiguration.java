@@ -0,0 +1,59 @@
+package com.baks.config;
+
+import com.baks.enums.AllureAttachmentsMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for Allure request/response attachments from application.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "allure-reporting")
+public class AllureReportingConfiguration {
+
+  private AllureAttachmentsMode mode;
+  private double sampleRate;
+  private int maxBodyLength;
+  private int failureBufferSize;
+  private boolean hashBinaryBodies;
+
+  public AllureAttachmentsMode getMode() {
+    return mode;
+  }
+
+  public void setMode(AllureAttachmentsMode mode) {
+    this.mode = mode;
+  }
+
+  public double getSampleRate() {
+    return sampleRate;
+  }
+
+  public void setSampleRate(double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public int getMaxBodyLength() {
+    return maxBodyLength;
+  }
+
+  public void setMaxBodyLength(int maxBodyLength) {
+    this.maxBodyLength = maxBodyLength;
+  }
+
+  public int getFailureBufferSize() {
+    return failureBufferSize;
+  }
+
+  public void setFailureBufferSize(int failureBufferSize) {
+    this.failureBufferSize = failureBufferSize;
+  }
+
+  public boolean isHashBinaryBodies() {
+    return hashBinaryBodies;
+  }
+
+  public void setHashBinaryBodies(boolean hashBinaryBodies) {
+    this.hashBinaryBodies = hashBinaryBodies;
+  }
+}
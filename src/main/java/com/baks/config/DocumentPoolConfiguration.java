@@ -0,0 +1,67 @@
+package com.baks.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for documents pool from application.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "document-pool")
+public class DocumentPoolConfiguration {
+
+  private int minSize;
+  private int targetSize;
+  private int seedPageSize;
+  private long refillIntervalMillis;
+  private long scanTimeoutMillis;
+  private long scanPollIntervalMillis;
+
+  public int getMinSize() {
+    return minSize;
+  }
+
+  public void setMinSize(int minSize) {
+    this.minSize = minSize;
+  }
+
+  public int getTargetSize() {
+    return targetSize;
+  }
+
+  public void setTargetSize(int targetSize) {
+    this.targetSize = targetSize;
+  }
+
+  public int getSeedPageSize() {
+    return seedPageSize;
+  }
+
+  public void setSeedPageSize(int seedPageSize) {
+    this.seedPageSize = seedPageSize;
+  }
+
+  public long getRefillIntervalMillis() {
+    return refillIntervalMillis;
+  }
+
+  public void setRefillIntervalMillis(long refillIntervalMillis) {
+    this.refillIntervalMillis = refillIntervalMillis;
+  }
+
+  public long getScanTimeoutMillis() {
+    return scanTimeoutMillis;
+  }
+
+  public void setScanTimeoutMillis(long scanTimeoutMillis) {
+    this.scanTimeoutMillis = scanTimeoutMillis;
+  }
+
+  public long getScanPollIntervalMillis() {
+    return scanPollIntervalMillis;
+  }
+
+  public void setScanPollIntervalMillis(long scanPollIntervalMillis) {
+    this.scanPollIntervalMillis = scanPollIntervalMillis;
+  }
+}
@@ -0,0 +1,90 @@
+package com.baks.config;
+
+import io.restassured.config.HttpClientConfig;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates single HTTP client with pooled keep-alive connections, which is shared by all RestAssured
+ * requests. RestAssured 4.x works with Apache HttpClient 4 'AbstractHttpClient' API only, so
+ * deprecated DefaultHttpClient and PoolingClientConnectionManager are used here.
+ */
+@Component
+@SuppressWarnings("deprecation")
+public class GatewayHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+  private final GatewayConnectionPoolConfiguration poolConfiguration;
+  private final ScheduledExecutorService idleConnectionsEvictor =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idle-connections-evictor");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private PoolingClientConnectionManager connectionManager;
+  private DefaultHttpClient httpClient;
+  private HttpClientConfig httpClientConfig;
+
+  @Autowired
+  public GatewayHttpClientFactory(GatewayConnectionPoolConfiguration poolConfiguration) {
+    this.poolConfiguration = poolConfiguration;
+  }
+
+  @PostConstruct
+  void initHttpClient() {
+    connectionManager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault(),
+        poolConfiguration.getTimeToLiveSeconds(), TimeUnit.SECONDS);
+    connectionManager.setMaxTotal(poolConfiguration.getMaxTotal());
+    connectionManager.setDefaultMaxPerRoute(poolConfiguration.getMaxPerRoute());
+    httpClient = new DefaultHttpClient(connectionManager);
+    httpClient.setKeepAliveStrategy((response, context) -> {
+      // Keep-Alive header of the response has priority over configured value.
+      long serverKeepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE
+          .getKeepAliveDuration(response, context);
+      long configuredKeepAliveMillis =
+          TimeUnit.SECONDS.toMillis(poolConfiguration.getKeepAliveSeconds());
+      return serverKeepAliveMillis > 0
+          ? Math.min(serverKeepAliveMillis, configuredKeepAliveMillis)
+          : configuredKeepAliveMillis;
+    });
+    httpClientConfig = HttpClientConfig.httpClientConfig()
+        .httpClientFactory(this)
+        .reuseHttpClientInstance();
+    long evictionPeriod = Math.max(poolConfiguration.getIdleTimeoutSeconds() / 2, 1);
+    idleConnectionsEvictor.scheduleAtFixedRate(this::evictIdleConnections,
+        evictionPeriod, evictionPeriod, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public HttpClient createHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Returns RestAssured HttpClientConfig which reuses shared pooled HTTP client.
+   */
+  public HttpClientConfig getHttpClientConfig() {
+    return httpClientConfig;
+  }
+
+  private void evictIdleConnections() {
+    connectionManager.closeExpiredConnections();
+    connectionManager.closeIdleConnections(poolConfiguration.getIdleTimeoutSeconds(),
+        TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    idleConnectionsEvictor.shutdownNow();
+    connectionManager.shutdown();
+  }
+}
@@ -16,6 +16,8 @@ public class IdentityConfiguration {
   private String path;
   private Map<String, String> formParams;
   private Map<String, String> authentication;
+  private long tokenRefreshAheadSeconds;
+  private long tokenMaxLifetimeSeconds = 300;
 
   public String getHost() {
     System.setProperty(ConfigurationConstants.AUTHORIZATION_HOST, host);
@@ -50,5 +52,21 @@ public class IdentityConfiguration {
   public void setAuthentication(Map<String, String> authentication) {
     this.authentication = authentication;
   }
+
+  public long getTokenRefreshAheadSeconds() {
+    return tokenRefreshAheadSeconds;
+  }
+
+  public void setTokenRefreshAheadSeconds(long tokenRefreshAheadSeconds) {
+    this.tokenRefreshAheadSeconds = tokenRefreshAheadSeconds;
+  }
+
+  public long getTokenMaxLifetimeSeconds() {
+    return tokenMaxLifetimeSeconds;
+  }
+
+  public void setTokenMaxLifetimeSeconds(long tokenMaxLifetimeSeconds) {
+    this.tokenMaxLifetimeSeconds = tokenMaxLifetimeSeconds;
+  }
 }
 
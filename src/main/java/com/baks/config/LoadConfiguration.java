@@ -0,0 +1,89 @@
+package com.baks.config;
+
+import com.baks.enums.LoadOperation;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for load runner from application.yml. Values can be overridden by command line
+ * arguments, e.g. "--load.enabled=true --load.rate=100 --load.mix.upload=0".
+ */
+@Component
+@ConfigurationProperties(prefix = "load")
+public class LoadConfiguration {
+
+  private boolean enabled;
+  private int rate;
+  private long durationSeconds;
+  private int maxInFlight;
+  private int seedDocuments;
+  private int documentsRingSize;
+  private String reportDirectory;
+  private Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getRate() {
+    return rate;
+  }
+
+  public void setRate(int rate) {
+    this.rate = rate;
+  }
+
+  public long getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  public void setDurationSeconds(long durationSeconds) {
+    this.durationSeconds = durationSeconds;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public void setMaxInFlight(int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+  }
+
+  public int getSeedDocuments() {
+    return seedDocuments;
+  }
+
+  public void setSeedDocuments(int seedDocuments) {
+    this.seedDocuments = seedDocuments;
+  }
+
+  public int getDocumentsRingSize() {
+    return documentsRingSize;
+  }
+
+  public void setDocumentsRingSize(int documentsRingSize) {
+    this.documentsRingSize = documentsRingSize;
+  }
+
+  public String getReportDirectory() {
+    return reportDirectory;
+  }
+
+  public void setReportDirectory(String reportDirectory) {
+    this.reportDirectory = reportDirectory;
+  }
+
+  public Map<LoadOperation, Integer> getMix() {
+    return mix;
+  }
+
+  public void setMix(Map<LoadOperation, Integer> mix) {
+    this.mix = mix;
+  }
+}
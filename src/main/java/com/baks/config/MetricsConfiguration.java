@@ -0,0 +1,31 @@
+package com.baks.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for metrics export from application.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "metrics")
+public class MetricsConfiguration {
+
+  private String reportFile;
+  private int scrapePort;
+
+  public String getReportFile() {
+    return reportFile;
+  }
+
+  public void setReportFile(String reportFile) {
+    this.reportFile = reportFile;
+  }
+
+  public int getScrapePort() {
+    return scrapePort;
+  }
+
+  public void setScrapePort(int scrapePort) {
+    this.scrapePort = scrapePort;
+  }
+}
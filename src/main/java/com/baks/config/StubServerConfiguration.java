@@ -0,0 +1,58 @@
+package com.baks.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for local Document Platform stub server from application-stub.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "stub")
+public class StubServerConfiguration {
+
+  private int port;
+  private long latencyMillis;
+  private long latencyJitterMillis;
+  private long tokenLifetimeSeconds;
+  private long maxStoredContentBytes;
+
+  public int getPort() {
+    return port;
+  }
+
+  public void setPort(int port) {
+    this.port = port;
+  }
+
+  public long getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public void setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  public long getLatencyJitterMillis() {
+    return latencyJitterMillis;
+  }
+
+  public void setLatencyJitterMillis(long latencyJitterMillis) {
+    this.latencyJitterMillis = latencyJitterMillis;
+  }
+
+  public long getTokenLifetimeSeconds() {
+    return tokenLifetimeSeconds;
+  }
+
+  public void setTokenLifetimeSeconds(long tokenLifetimeSeconds) {
+    this.tokenLifetimeSeconds = tokenLifetimeSeconds;
+  }
+
+  public long getMaxStoredContentBytes() {
+    return maxStoredContentBytes;
+  }
+
+  public void setMaxStoredContentBytes(long maxStoredContentBytes) {
+    this.maxStoredContentBytes = maxStoredContentBytes;
+  }
+}
@@ -0,0 +1,58 @@
+package com.baks.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for access token request retries from application.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "identity.retry")
+public class TokenRetryConfiguration {
+
+  private int maxAttempts;
+  private long initialBackoffMillis;
+  private long maxBackoffMillis;
+  private int failureThreshold;
+  private long openStateSeconds;
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  public long getInitialBackoffMillis() {
+    return initialBackoffMillis;
+  }
+
+  public void setInitialBackoffMillis(long initialBackoffMillis) {
+    this.initialBackoffMillis = initialBackoffMillis;
+  }
+
+  public long getMaxBackoffMillis() {
+    return maxBackoffMillis;
+  }
+
+  public void setMaxBackoffMillis(long maxBackoffMillis) {
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  public long getOpenStateSeconds() {
+    return openStateSeconds;
+  }
+
+  public void setOpenStateSeconds(long openStateSeconds) {
+    this.openStateSeconds = openStateSeconds;
+  }
+}
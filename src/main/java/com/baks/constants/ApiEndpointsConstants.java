@@ -0,0 +1,28 @@
+package com.baks.constants;
+
+
+/**
+ * Document Platform API endpoints, relative to gateway base path.
+ */
+public class ApiEndpointsConstants {
+
+  private ApiEndpointsConstants() {
+  }
+
+  public static final String DOCUMENTS_URI = "documents";
+  public static final String SPECIFIED_DOCUMENT_URI = "documents/{documentId}";
+  public static final String RECOVER_URI = "documents/{documentId}/recover";
+  public static final String DOWNLOAD_URI = "documents/{documentId}/download";
+  public static final String LOCK_STATUS_URI = "documents/{documentId}/lock-status";
+  public static final String EXPIRATION_URI = "documents/{documentId}/expires-at";
+  public static final String METADATA_URI = "documents/{documentId}/metadata";
+  public static final String DOCUMENTS_FILTERED_LIST_URI = "documents/filter";
+  public static final String DOCUMENTS_COUNT_URI = "documents/filter/count";
+  public static final String DELETED_DOCUMENTS_FILTERED_LIST_URI = "documents/filter/deleted";
+  public static final String MULTIPLE_URI = "documents/multiple";
+  public static final String HARD_DELETE_BY_DOCUMENT_ID_URI = "documents/hard-by-document-ids";
+  public static final String RECOVER_MULTIPLE_URI = "documents/recover/multiple";
+  public static final String REGISTER_USER_URI = "register-user";
+  public static final String DOCUMENT_CATEGORIES_URI = "document-categories";
+  public static final String DOCUMENT_CATEGORY_URI = "document-categories/{categoryId}";
+}
@@ -14,6 +14,7 @@ public class ApiRequestsConstants {
   public static final String PASSWORD = "password";
   public static final String GRANT_TYPE = "grant_type";
   public static final String SCOPE = "scope";
+  public static final String EXPIRES_IN = "expires_in";
   public static final String DOCUMENT_ID = "documentId";
   public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
   public static final String USER_ID_HEADER = "X-Dm-User-Id";
@@ -13,4 +13,8 @@ public class ConfigurationConstants {
   public static final String AUTHORIZATION_HOST = "authorizationHost";
   public static final String AUTHORIZATION_PATH = "authorizationPath";
   public static final int PAGE_SIZE_DEFAULT_VALUE = 30;
+  public static final int PAGE_SIZE_MAX_VALUE = 1000;
+  public static final String VIRTUAL_THREADS_ENABLED = "virtual.threads.enabled";
+  public static final String THREADS_COUNT = "threads.count";
+  public static final int THREADS_COUNT_DEFAULT_VALUE = 5;
 }
@@ -0,0 +1,43 @@
+package com.baks.digest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Channel which adds every byte read from the source channel to the streaming digest, so content
+ * can be digested while it is transferred to another channel.
+ */
+public final class DigestingReadableByteChannel implements ReadableByteChannel {
+
+  private final ReadableByteChannel source;
+  private final StreamingDigest streamingDigest;
+
+  public DigestingReadableByteChannel(ReadableByteChannel source,
+      StreamingDigest streamingDigest) {
+    this.source = source;
+    this.streamingDigest = streamingDigest;
+  }
+
+  @Override
+  public int read(ByteBuffer destination) throws IOException {
+    int start = destination.position();
+    int read = source.read(destination);
+    if (read > 0) {
+      ByteBuffer readBytes = destination.duplicate();
+      readBytes.position(start).limit(start + read);
+      streamingDigest.update(readBytes);
+    }
+    return read;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return source.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+}
@@ -0,0 +1,45 @@
+package com.baks.digest;
+
+/**
+ * Immutable digests of document content: size in bytes, MD5 and SHA-256 hex strings and CRC32
+ * checksum as decimal string, in the same format as Document Platform returns in document details.
+ */
+public final class DocumentDigest {
+
+  private final long size;
+  private final String md5;
+  private final String crc32;
+  private final String sha256;
+
+  /**
+   * Creates document digest from already computed values.
+   */
+  public DocumentDigest(long size, String md5, String crc32, String sha256) {
+    this.size = size;
+    this.md5 = md5;
+    this.crc32 = crc32;
+    this.sha256 = sha256;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public String getMd5() {
+    return md5;
+  }
+
+  public String getCrc32() {
+    return crc32;
+  }
+
+  public String getSha256() {
+    return sha256;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("DocumentDigest{size=%d, md5=%s, crc32=%s, sha256=%s}",
+        size, md5, crc32, sha256);
+  }
+}
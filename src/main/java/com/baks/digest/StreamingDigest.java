@@ -0,0 +1,73 @@
+package com.baks.digest;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.zip.CRC32;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes MD5, CRC32 and SHA-256 of content supplied in chunks, so each byte is read only once
+ * regardless of the content size. Instances are not thread safe and can't be reused after
+ * {@link #finish()}.
+ */
+public final class StreamingDigest {
+
+  private final MessageDigest md5 = DigestUtils.getMd5Digest();
+  private final MessageDigest sha256 = DigestUtils.getSha256Digest();
+  private final CRC32 crc32 = new CRC32();
+  private long size;
+  private boolean finished;
+
+  /**
+   * Adds the specified chunk of content to the digests.
+   *
+   * @param content array with content chunk
+   * @param offset  chunk offset in the array
+   * @param length  chunk length
+   */
+  public void update(byte[] content, int offset, int length) {
+    checkNotFinished();
+    md5.update(content, offset, length);
+    sha256.update(content, offset, length);
+    crc32.update(content, offset, length);
+    size += length;
+  }
+
+  /**
+   * Adds remaining bytes of the buffer to the digests. Buffer position is moved to its limit.
+   */
+  public void update(ByteBuffer content) {
+    checkNotFinished();
+    int length = content.remaining();
+    md5.update(content.duplicate());
+    sha256.update(content.duplicate());
+    crc32.update(content);
+    size += length;
+  }
+
+  /**
+   * Returns the number of bytes added so far.
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Completes digests computation.
+   *
+   * @return digests of all added content
+   */
+  public DocumentDigest finish() {
+    checkNotFinished();
+    finished = true;
+    return new DocumentDigest(size, Hex.encodeHexString(md5.digest()),
+        String.valueOf(crc32.getValue()), Hex.encodeHexString(sha256.digest()));
+  }
+
+  private void checkNotFinished() {
+    if (finished) {
+      throw new IllegalStateException("Digest computation is already finished");
+    }
+  }
+}
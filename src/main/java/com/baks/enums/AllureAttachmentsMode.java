@@ -0,0 +1,23 @@
+package com.baks.enums;
+
+/**
+ * ENUM with modes of Allure request/response attachments.
+ */
+public enum AllureAttachmentsMode {
+  /**
+   * Every request and response is attached.
+   */
+  FULL,
+  /**
+   * Requests are attached only for failed tests and for responses with error status code.
+   */
+  FAILURES,
+  /**
+   * Same as FAILURES, additionally configured share of successful requests is attached.
+   */
+  SAMPLED,
+  /**
+   * Requests are not attached.
+   */
+  OFF
+}
@@ -0,0 +1,11 @@
+package com.baks.enums;
+
+/**
+ * ENUM with categories of documents handed out by documents pool. All pooled documents have
+ * successful antivirus scan status.
+ */
+public enum DocumentPoolCategory {
+  ACTIVE,
+  READ_ONLY,
+  DELETED
+}
@@ -0,0 +1,14 @@
+package com.baks.enums;
+
+/**
+ * ENUM with Document Platform operations replayed by load runner. Weight of every operation in
+ * the load mix is configured in application.yml "load.mix" section.
+ */
+public enum LoadOperation {
+  UPLOAD,
+  DETAILS,
+  FILTER,
+  DOWNLOAD,
+  LOCK_STATUS,
+  DELETE_RECOVER
+}
@@ -0,0 +1,29 @@
+package com.baks.enums;
+
+import static com.baks.constants.ApiRequestsConstants.LIMIT_PARAM;
+import static com.baks.constants.ApiRequestsConstants.OFFSET_PARAM;
+import static com.baks.constants.ApiRequestsConstants.PAGE_PARAM;
+import static com.baks.constants.ApiRequestsConstants.PER_PAGE_PARAM;
+
+import java.util.Map;
+
+/**
+ * ENUM with pagination query parameters supported by documents list endpoints.
+ */
+public enum PaginationMode {
+  PAGE,
+  OFFSET;
+
+  /**
+   * Returns query parameters of the page.
+   *
+   * @param pageIndex zero based page index
+   * @param pageSize  page size
+   */
+  public Map<String, Object> getQueryParams(int pageIndex, int pageSize) {
+    if (this == PAGE) {
+      return Map.of(PAGE_PARAM, pageIndex + 1, PER_PAGE_PARAM, pageSize);
+    }
+    return Map.of(OFFSET_PARAM, (long) pageIndex * pageSize, LIMIT_PARAM, pageSize);
+  }
+}
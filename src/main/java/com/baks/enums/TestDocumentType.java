@@ -32,12 +32,22 @@ public enum TestDocumentType {
    * @return document extension i.e .pdf
    */
   public static String getDocumentExtensionByType(String documentType) {
+    return getTestDocumentTypeByType(documentType).getExtension();
+  }
+
+  /**
+   * Get TestDocumentType By document type.
+   *
+   * @param documentType type of document, stored in test data folder.
+   * @return corresponding TestDocumentType value
+   */
+  public static TestDocumentType getTestDocumentTypeByType(String documentType) {
     final String notFoundMessage = String.format("Document with type '%s' is not supported by test",
         documentType);
     return Arrays.stream(TestDocumentType.values())
         .filter(value -> value.getType().equalsIgnoreCase(documentType))
         .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException(notFoundMessage)).getExtension();
+        .orElseThrow(() -> new IllegalArgumentException(notFoundMessage));
   }
 
   public String getType() {
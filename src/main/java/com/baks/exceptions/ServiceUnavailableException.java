@@ -0,0 +1,12 @@
+package com.baks.exceptions;
+
+/**
+ * Custom exception for cases when requests to a dependent service are rejected without being sent,
+ * i.e. service has been failing continuously and circuit breaker is open.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+  public ServiceUnavailableException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,99 @@
+package com.baks.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Part of synthetic document content: either fixed bytes of format structures or deterministic
+ * filler generated from a seed on every read.
+ */
+abstract class DocumentPart {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  abstract long getLength();
+
+  abstract InputStream open();
+
+  static DocumentPart fixed(byte[] content) {
+    return new FixedPart(content);
+  }
+
+  /**
+   * Creates filler part.
+   *
+   * @param length filler length in bytes
+   * @param text   true for filler of latin letters, false for random binary filler
+   * @param seed   seed of filler content
+   */
+  static DocumentPart filler(long length, boolean text, long seed) {
+    return new FillerPart(length, text, seed);
+  }
+
+  /**
+   * Computes CRC32 checksum of the specified parts reading them in a single pass.
+   */
+  static long crc32(List<DocumentPart> parts) {
+    CRC32 crc32 = new CRC32();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try {
+      for (DocumentPart part : parts) {
+        try (InputStream content = part.open()) {
+          int read;
+          while ((read = content.read(buffer)) != -1) {
+            crc32.update(buffer, 0, read);
+          }
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return crc32.getValue();
+  }
+
+  private static final class FixedPart extends DocumentPart {
+
+    private final byte[] content;
+
+    private FixedPart(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    long getLength() {
+      return content.length;
+    }
+
+    @Override
+    InputStream open() {
+      return new ByteArrayInputStream(content);
+    }
+  }
+
+  private static final class FillerPart extends DocumentPart {
+
+    private final long length;
+    private final boolean text;
+    private final long seed;
+
+    private FillerPart(long length, boolean text, long seed) {
+      this.length = length;
+      this.text = text;
+      this.seed = seed;
+    }
+
+    @Override
+    long getLength() {
+      return length;
+    }
+
+    @Override
+    InputStream open() {
+      return new FillerInputStream(length, text, seed);
+    }
+  }
+}
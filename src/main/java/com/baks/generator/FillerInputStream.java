@@ -0,0 +1,68 @@
+package com.baks.generator;
+
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Stream of pseudorandom bytes or latin letters of the specified length. The same seed always
+ * produces the same content regardless of the size of reads.
+ */
+final class FillerInputStream extends InputStream {
+
+  private static final int LETTERS_COUNT = 26;
+
+  private final SplittableRandom random;
+  private final boolean text;
+  private long remaining;
+  private long word;
+  private int wordBytes;
+
+  FillerInputStream(long length, boolean text, long seed) {
+    this.random = new SplittableRandom(seed);
+    this.text = text;
+    this.remaining = length;
+  }
+
+  @Override
+  public int read() {
+    if (remaining == 0) {
+      return -1;
+    }
+    remaining--;
+    return nextByte();
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+    if (length == 0) {
+      return 0;
+    }
+    if (remaining == 0) {
+      return -1;
+    }
+    int count = (int) Math.min(length, remaining);
+    for (int i = offset; i < offset + count; i++) {
+      buffer[i] = (byte) nextByte();
+    }
+    remaining -= count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return (int) Math.min(remaining, Integer.MAX_VALUE);
+  }
+
+  private int nextByte() {
+    if (wordBytes == 0) {
+      word = random.nextLong();
+      wordBytes = Long.BYTES;
+    }
+    int value = (int) word & 0xff;
+    word >>>= Byte.SIZE;
+    wordBytes--;
+    return text ? 'a' + value % LETTERS_COUNT : value;
+  }
+}
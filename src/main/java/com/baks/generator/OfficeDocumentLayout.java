@@ -0,0 +1,230 @@
+package com.baks.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Minimal Office Open XML package (docx or xlsx) stored in ZIP archive without compression. Filler
+ * is an XML comment in the prolog of the main document part, which is the last archive entry.
+ * ZIP64 records are used for documents larger than 4 GB.
+ */
+final class OfficeDocumentLayout {
+
+  private static final String XML_DECLARATION =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+  private static final String RELATIONSHIPS_NAMESPACE =
+      "http://schemas.openxmlformats.org/package/2006/relationships";
+  private static final String OFFICE_DOCUMENT_RELATIONSHIP =
+      "http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument";
+  private static final String WORKSHEET_RELATIONSHIP =
+      "http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet";
+  private static final String FILLER_START = "<!--";
+  private static final String FILLER_END = "-->\n";
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+  private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int LOCAL_HEADER_LENGTH = 30;
+  private static final int CENTRAL_HEADER_LENGTH = 46;
+  private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+  private static final int ZIP64_LOCATOR_LENGTH = 20;
+  private static final int ZIP64_EXTRA_FIELD_LENGTH = 20;
+  private static final long ZIP64_LIMIT = 0xFFFFFFFFL;
+  private static final short VERSION = 20;
+  private static final short ZIP64_VERSION = 45;
+  // 1980-01-01 00:00 in MS-DOS format
+  private static final short DOS_DATE = 0x21;
+
+  private OfficeDocumentLayout() {
+  }
+
+  static List<DocumentPart> createWordDocument(long size, SplittableRandom random) {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("[Content_Types].xml", contentTypes("/word/document.xml",
+        "application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"));
+    entries.put("_rels/.rels", relationships(OFFICE_DOCUMENT_RELATIONSHIP, "word/document.xml"));
+    return create("Word", size, random, entries, "word/document.xml",
+        "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+            + "<w:body><w:p><w:r><w:t>Synthetic document</w:t></w:r></w:p></w:body>"
+            + "</w:document>");
+  }
+
+  static List<DocumentPart> createExcelDocument(long size, SplittableRandom random) {
+    String mainNamespace = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("[Content_Types].xml", contentTypes("/xl/workbook.xml",
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml",
+        "/xl/worksheets/sheet1.xml",
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"));
+    entries.put("_rels/.rels", relationships(OFFICE_DOCUMENT_RELATIONSHIP, "xl/workbook.xml"));
+    entries.put("xl/workbook.xml", XML_DECLARATION
+        + "<workbook xmlns=\"" + mainNamespace + "\" xmlns:r=\""
+        + "http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+        + "<sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+    entries.put("xl/_rels/workbook.xml.rels",
+        relationships(WORKSHEET_RELATIONSHIP, "worksheets/sheet1.xml"));
+    return create("Excel", size, random, entries, "xl/worksheets/sheet1.xml",
+        "<worksheet xmlns=\"" + mainNamespace + "\"><sheetData><row r=\"1\">"
+            + "<c r=\"A1\" t=\"inlineStr\"><is><t>Synthetic document</t></is></c>"
+            + "</row></sheetData></worksheet>");
+  }
+
+  private static List<DocumentPart> create(String format, long size, SplittableRandom random,
+      Map<String, String> entries, String mainEntryName, String mainEntryRoot) {
+    boolean zip64 = size >= ZIP64_LIMIT;
+    ByteArrayOutputStream head = new ByteArrayOutputStream();
+    ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+    for (Map.Entry<String, String> entry : entries.entrySet()) {
+      byte[] content = entry.getValue().getBytes(StandardCharsets.UTF_8);
+      CRC32 crc32 = new CRC32();
+      crc32.update(content);
+      byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      centralDirectory.writeBytes(
+          centralHeader(name, crc32.getValue(), content.length, head.size(), false));
+      head.writeBytes(localHeader(name, crc32.getValue(), content.length, false));
+      head.writeBytes(content);
+    }
+
+    byte[] mainEntryNameBytes = mainEntryName.getBytes(StandardCharsets.UTF_8);
+    byte[] mainEntryStart = (XML_DECLARATION + FILLER_START).getBytes(StandardCharsets.UTF_8);
+    byte[] mainEntryEnd = (FILLER_END + mainEntryRoot).getBytes(StandardCharsets.UTF_8);
+    int zip64ExtraLength = zip64 ? ZIP64_EXTRA_FIELD_LENGTH : 0;
+    long mainEntryOffset = head.size();
+    long mainEntryDataOffset = mainEntryOffset + LOCAL_HEADER_LENGTH + mainEntryNameBytes.length
+        + zip64ExtraLength;
+    long centralDirectoryLength = centralDirectory.size() + CENTRAL_HEADER_LENGTH
+        + mainEntryNameBytes.length + zip64ExtraLength;
+    long endLength = END_OF_CENTRAL_DIRECTORY_LENGTH
+        + (zip64 ? ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH + ZIP64_LOCATOR_LENGTH : 0);
+    long minimalSize = mainEntryDataOffset + mainEntryStart.length + mainEntryEnd.length
+        + centralDirectoryLength + endLength;
+    SyntheticDocumentGenerator.checkMinimalSize(format, size, minimalSize);
+
+    long fillerLength = size - minimalSize;
+    long mainEntryLength = mainEntryStart.length + fillerLength + mainEntryEnd.length;
+    DocumentPart filler = DocumentPart.filler(fillerLength, true, random.nextLong());
+    long mainEntryCrc = DocumentPart.crc32(List.of(
+        DocumentPart.fixed(mainEntryStart), filler, DocumentPart.fixed(mainEntryEnd)));
+    head.writeBytes(localHeader(mainEntryNameBytes, mainEntryCrc, mainEntryLength, zip64));
+    head.writeBytes(mainEntryStart);
+    centralDirectory.writeBytes(centralHeader(mainEntryNameBytes, mainEntryCrc, mainEntryLength,
+        mainEntryOffset, zip64));
+
+    ByteArrayOutputStream tail = new ByteArrayOutputStream();
+    tail.writeBytes(mainEntryEnd);
+    long centralDirectoryOffset = mainEntryDataOffset + mainEntryLength;
+    tail.writeBytes(centralDirectory.toByteArray());
+    int entriesCount = entries.size() + 1;
+    if (zip64) {
+      long zip64EndOffset = centralDirectoryOffset + centralDirectoryLength;
+      tail.writeBytes(littleEndian(ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH)
+          .putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+          .putLong(ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH - 12)
+          .putShort(ZIP64_VERSION).putShort(ZIP64_VERSION)
+          .putInt(0).putInt(0)
+          .putLong(entriesCount).putLong(entriesCount)
+          .putLong(centralDirectoryLength).putLong(centralDirectoryOffset)
+          .array());
+      tail.writeBytes(littleEndian(ZIP64_LOCATOR_LENGTH)
+          .putInt(ZIP64_LOCATOR_SIGNATURE).putInt(0).putLong(zip64EndOffset).putInt(1)
+          .array());
+    }
+    tail.writeBytes(littleEndian(END_OF_CENTRAL_DIRECTORY_LENGTH)
+        .putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+        .putShort((short) 0).putShort((short) 0)
+        .putShort((short) entriesCount).putShort((short) entriesCount)
+        .putInt((int) centralDirectoryLength)
+        .putInt((int) (zip64 ? ZIP64_LIMIT : centralDirectoryOffset))
+        .putShort((short) 0)
+        .array());
+
+    List<DocumentPart> parts = new ArrayList<>();
+    parts.add(DocumentPart.fixed(head.toByteArray()));
+    parts.add(filler);
+    parts.add(DocumentPart.fixed(tail.toByteArray()));
+    return parts;
+  }
+
+  private static byte[] localHeader(byte[] name, long crc, long length, boolean zip64) {
+    int extraLength = zip64 ? ZIP64_EXTRA_FIELD_LENGTH : 0;
+    ByteBuffer header = littleEndian(LOCAL_HEADER_LENGTH + name.length + extraLength)
+        .putInt(LOCAL_HEADER_SIGNATURE)
+        .putShort(zip64 ? ZIP64_VERSION : VERSION)
+        // no flags, stored without compression
+        .putShort((short) 0).putShort((short) 0)
+        .putShort((short) 0).putShort(DOS_DATE)
+        .putInt((int) crc)
+        .putInt((int) (zip64 ? ZIP64_LIMIT : length))
+        .putInt((int) (zip64 ? ZIP64_LIMIT : length))
+        .putShort((short) name.length).putShort((short) extraLength)
+        .put(name);
+    if (zip64) {
+      header.put(zip64ExtraField(length));
+    }
+    return header.array();
+  }
+
+  private static byte[] centralHeader(byte[] name, long crc, long length, long offset,
+      boolean zip64) {
+    int extraLength = zip64 ? ZIP64_EXTRA_FIELD_LENGTH : 0;
+    short version = zip64 ? ZIP64_VERSION : VERSION;
+    ByteBuffer header = littleEndian(CENTRAL_HEADER_LENGTH + name.length + extraLength)
+        .putInt(CENTRAL_HEADER_SIGNATURE)
+        .putShort(version).putShort(version)
+        .putShort((short) 0).putShort((short) 0)
+        .putShort((short) 0).putShort(DOS_DATE)
+        .putInt((int) crc)
+        .putInt((int) (zip64 ? ZIP64_LIMIT : length))
+        .putInt((int) (zip64 ? ZIP64_LIMIT : length))
+        .putShort((short) name.length).putShort((short) extraLength)
+        // no comment, disk number, internal and external attributes
+        .putShort((short) 0).putShort((short) 0).putShort((short) 0).putInt(0)
+        .putInt((int) offset)
+        .put(name);
+    if (zip64) {
+      header.put(zip64ExtraField(length));
+    }
+    return header.array();
+  }
+
+  private static byte[] zip64ExtraField(long length) {
+    return littleEndian(ZIP64_EXTRA_FIELD_LENGTH)
+        .putShort((short) 1).putShort((short) (ZIP64_EXTRA_FIELD_LENGTH - 4))
+        .putLong(length).putLong(length)
+        .array();
+  }
+
+  private static ByteBuffer littleEndian(int length) {
+    return ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static String contentTypes(String... partNamesAndContentTypes) {
+    StringBuilder contentTypes = new StringBuilder(XML_DECLARATION)
+        .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+        .append("<Default Extension=\"rels\" ContentType=\"")
+        .append("application/vnd.openxmlformats-package.relationships+xml\"/>")
+        .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+    for (int i = 0; i < partNamesAndContentTypes.length; i += 2) {
+      contentTypes.append("<Override PartName=\"").append(partNamesAndContentTypes[i])
+          .append("\" ContentType=\"").append(partNamesAndContentTypes[i + 1]).append("\"/>");
+    }
+    return contentTypes.append("</Types>").toString();
+  }
+
+  private static String relationships(String type, String target) {
+    return XML_DECLARATION + "<Relationships xmlns=\"" + RELATIONSHIPS_NAMESPACE + "\">"
+        + "<Relationship Id=\"rId1\" Type=\"" + type + "\" Target=\"" + target + "\"/>"
+        + "</Relationships>";
+  }
+}
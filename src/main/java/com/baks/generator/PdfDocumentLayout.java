@@ -0,0 +1,65 @@
+package com.baks.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Single page PDF document with unreferenced stream object of the filler size.
+ */
+final class PdfDocumentLayout {
+
+  // binary comment marks the file as binary for transfer tools
+  private static final String HEADER = "%PDF-1.7\n%\u00e2\u00e3\u00cf\u00d3\n"; // "%âãÏÓ"
+  private static final String PAGE_CONTENT = "0.5 g 72 72 468 648 re f\n";
+  private static final List<String> OBJECTS = List.of(
+      "<< /Type /Catalog /Pages 2 0 R >>",
+      "<< /Type /Pages /Kids [3 0 R] /Count 1 >>",
+      "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 612 792] /Contents 4 0 R >>",
+      "<< /Length " + PAGE_CONTENT.length() + " >>\nstream\n" + PAGE_CONTENT + "endstream");
+  private static final String FILLER_OBJECT_END = "\nendstream\nendobj\n";
+  private static final int MAX_NUMBER_LENGTH = String.valueOf(Long.MAX_VALUE).length();
+
+  private PdfDocumentLayout() {
+  }
+
+  static List<DocumentPart> create(long size, SplittableRandom random) {
+    StringBuilder xref = new StringBuilder()
+        .append("xref\n0 ").append(OBJECTS.size() + 2).append("\n0000000000 65535 f \n");
+    StringBuilder head = new StringBuilder(HEADER);
+    for (int i = 0; i < OBJECTS.size(); i++) {
+      xref.append(String.format("%010d 00000 n \n", head.length()));
+      head.append(i + 1).append(" 0 obj\n").append(OBJECTS.get(i)).append("\nendobj\n");
+    }
+    xref.append(String.format("%010d 00000 n \n", head.length()));
+    String trailer = String.format("trailer\n<< /Size %d /Root 1 0 R >>\nstartxref\n",
+        OBJECTS.size() + 2);
+    String end = "\n%%EOF\n";
+    // Length of the filler object is padded, so that offsets don't depend on its digits count
+    String fillerObjectStart = (OBJECTS.size() + 1) + " 0 obj\n<< /Length %-"
+        + MAX_NUMBER_LENGTH + "d >>\nstream\n";
+    long fixedLength = head.length() + String.format(fillerObjectStart, 0).length()
+        + FILLER_OBJECT_END.length();
+    long tailLength = xref.length() + trailer.length() + end.length();
+    SyntheticDocumentGenerator.checkMinimalSize("PDF", size,
+        fixedLength + tailLength + MAX_NUMBER_LENGTH + 1);
+
+    // startxref value is the offset of the xref table, its digits count is part of document size.
+    // Some sizes can't be reached with a single EOL after %%EOF, CRLF is used for them.
+    for (String eol : List.of("\n", "\r\n")) {
+      for (int digits = 1; digits <= MAX_NUMBER_LENGTH; digits++) {
+        long xrefOffset = size - tailLength - digits - (eol.length() - 1);
+        if (String.valueOf(xrefOffset).length() == digits && xrefOffset >= fixedLength) {
+          long fillerLength = xrefOffset - fixedLength;
+          head.append(String.format(fillerObjectStart, fillerLength));
+          String tail = FILLER_OBJECT_END + xref + trailer + xrefOffset + "\n%%EOF" + eol;
+          return List.of(
+              DocumentPart.fixed(head.toString().getBytes(StandardCharsets.ISO_8859_1)),
+              DocumentPart.filler(fillerLength, false, random.nextLong()),
+              DocumentPart.fixed(tail.getBytes(StandardCharsets.ISO_8859_1)));
+        }
+      }
+    }
+    throw new IllegalStateException("Failed to lay out PDF document with size " + size);
+  }
+}
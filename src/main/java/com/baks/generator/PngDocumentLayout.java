@@ -0,0 +1,101 @@
+package com.baks.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * Small grayscale PNG image with text chunks of the filler size.
+ */
+final class PngDocumentLayout {
+
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+  private static final int IMAGE_SIZE = 16;
+  private static final byte[] TEXT_CHUNK_TYPE = "tEXt".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TEXT_KEYWORD = "Comment\0".getBytes(StandardCharsets.US_ASCII);
+  // Chunk length, type and CRC
+  private static final int CHUNK_OVERHEAD = 12;
+  private static final int MAX_TEXT_LENGTH = 1 << 30;
+
+  private PngDocumentLayout() {
+  }
+
+  static List<DocumentPart> create(long size, SplittableRandom random) {
+    ByteArrayOutputStream image = new ByteArrayOutputStream();
+    image.writeBytes(SIGNATURE);
+    image.writeBytes(chunk("IHDR", ByteBuffer.allocate(13)
+        .putInt(IMAGE_SIZE).putInt(IMAGE_SIZE)
+        // 8 bit grayscale, deflate compression, adaptive filtering, no interlace
+        .put((byte) 8).put((byte) 0).put((byte) 0).put((byte) 0).put((byte) 0)
+        .array()));
+    image.writeBytes(chunk("IDAT", createImageData(random)));
+    byte[] end = chunk("IEND", new byte[0]);
+
+    int textChunkOverhead = CHUNK_OVERHEAD + TEXT_KEYWORD.length;
+    SyntheticDocumentGenerator.checkMinimalSize("PNG", size,
+        image.size() + end.length + textChunkOverhead);
+    long paddingLength = size - image.size() - end.length;
+    long chunksCount = (paddingLength + MAX_TEXT_LENGTH + textChunkOverhead - 1)
+        / (MAX_TEXT_LENGTH + textChunkOverhead);
+
+    List<DocumentPart> parts = new ArrayList<>();
+    parts.add(DocumentPart.fixed(image.toByteArray()));
+    for (long i = 0; i < chunksCount; i++) {
+      long chunkLength = paddingLength / chunksCount + (i < paddingLength % chunksCount ? 1 : 0);
+      int textLength = (int) (chunkLength - textChunkOverhead);
+      DocumentPart chunkStart = DocumentPart.fixed(ByteBuffer
+          .allocate(4 + TEXT_CHUNK_TYPE.length + TEXT_KEYWORD.length)
+          .putInt(TEXT_KEYWORD.length + textLength).put(TEXT_CHUNK_TYPE).put(TEXT_KEYWORD)
+          .array());
+      DocumentPart text = DocumentPart.filler(textLength, true, random.nextLong());
+      // Chunk CRC covers chunk type and data, type and keyword are the same for all text chunks
+      long crc = DocumentPart.crc32(List.of(
+          DocumentPart.fixed(ByteBuffer.allocate(TEXT_CHUNK_TYPE.length + TEXT_KEYWORD.length)
+              .put(TEXT_CHUNK_TYPE).put(TEXT_KEYWORD).array()),
+          text));
+      parts.add(chunkStart);
+      parts.add(text);
+      parts.add(DocumentPart.fixed(ByteBuffer.allocate(4).putInt((int) crc).array()));
+    }
+    parts.add(DocumentPart.fixed(end));
+    return parts;
+  }
+
+  /**
+   * Creates zlib stream with a single stored deflate block of random image rows.
+   */
+  private static byte[] createImageData(SplittableRandom random) {
+    byte[] rows = new byte[IMAGE_SIZE * (IMAGE_SIZE + 1)];
+    for (int i = 0; i < rows.length; i++) {
+      // first byte of each row is filter type: none
+      rows[i] = i % (IMAGE_SIZE + 1) == 0 ? 0 : (byte) random.nextInt(256);
+    }
+    Adler32 adler32 = new Adler32();
+    adler32.update(rows);
+    return ByteBuffer.allocate(2 + 5 + rows.length + 4)
+        // zlib header: deflate with 32K window, no dictionary, fastest compression
+        .put((byte) 0x78).put((byte) 0x01)
+        // final stored block, length and its one's complement in little endian
+        .put((byte) 0x01)
+        .put((byte) rows.length).put((byte) (rows.length >>> 8))
+        .put((byte) ~rows.length).put((byte) (~rows.length >>> 8))
+        .put(rows)
+        .putInt((int) adler32.getValue())
+        .array();
+  }
+
+  private static byte[] chunk(String type, byte[] data) {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc32 = new CRC32();
+    crc32.update(typeBytes);
+    crc32.update(data);
+    return ByteBuffer.allocate(CHUNK_OVERHEAD + data.length)
+        .putInt(data.length).put(typeBytes).put(data).putInt((int) crc32.getValue())
+        .array();
+  }
+}
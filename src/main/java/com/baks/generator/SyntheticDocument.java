@@ -0,0 +1,72 @@
+package com.baks.generator;
+
+import com.baks.digest.DocumentDigest;
+import com.baks.enums.TestDocumentType;
+import com.baks.utils.DigestUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Valid document of the specified type and size generated deterministically from a seed. Document
+ * content is never stored: each {@link #openStream()} call generates the same content again.
+ */
+public final class SyntheticDocument {
+
+  private final TestDocumentType testDocumentType;
+  private final long size;
+  private final long seed;
+  private final List<DocumentPart> parts;
+  private volatile DocumentDigest digest;
+
+  SyntheticDocument(TestDocumentType testDocumentType, long size, long seed,
+      List<DocumentPart> parts) {
+    this.testDocumentType = testDocumentType;
+    this.size = size;
+    this.seed = seed;
+    this.parts = List.copyOf(parts);
+  }
+
+  /**
+   * Opens new stream with document content.
+   */
+  public SyntheticDocumentInputStream openStream() {
+    return new SyntheticDocumentInputStream(parts, size);
+  }
+
+  /**
+   * Returns digests of document content. Digests are computed by reading generated content once on
+   * the first call.
+   */
+  public DocumentDigest getDigest() {
+    DocumentDigest documentDigest = digest;
+    if (documentDigest == null) {
+      try (InputStream content = openStream()) {
+        documentDigest = DigestUtil.digest(content);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      digest = documentDigest;
+    }
+    return documentDigest;
+  }
+
+  public TestDocumentType getTestDocumentType() {
+    return testDocumentType;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("SyntheticDocument{type=%s, size=%d, seed=%d}",
+        testDocumentType.getType(), size, seed);
+  }
+}
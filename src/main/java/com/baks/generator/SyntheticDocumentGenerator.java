@@ -0,0 +1,62 @@
+package com.baks.generator;
+
+import com.baks.enums.TestDocumentType;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates valid PDF, PNG, Word and Excel documents of exact size (from 1-2 KB depending on format
+ * to several GB) to measure upload throughput and size limits. Document structure is minimal, the
+ * requested size is reached by deterministic filler: binary stream object in PDF, text chunks in
+ * PNG and XML comment in the main part of Word and Excel documents. CRC32 checksums stored in the
+ * document structure (PNG chunks and ZIP entries) are computed by reading the filler once when the
+ * document is created. Digests of the whole document are computed lazily on the first
+ * {@link SyntheticDocument#getDigest()} call.
+ */
+public final class SyntheticDocumentGenerator {
+
+  private SyntheticDocumentGenerator() {
+  }
+
+  /**
+   * Creates synthetic document. The same arguments always produce the same content.
+   *
+   * @param testDocumentType type of document: PDF, PNG, WORD or EXCEL
+   * @param size             exact document size in bytes
+   * @param seed             seed of document content
+   * @return synthetic document, content is generated when document stream is read
+   * @throws IllegalArgumentException if document type is not supported or size is less than
+   *                                  minimal size of the document structure
+   */
+  public static SyntheticDocument generate(TestDocumentType testDocumentType, long size,
+      long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    List<DocumentPart> parts;
+    switch (testDocumentType) {
+      case PDF:
+        parts = PdfDocumentLayout.create(size, random);
+        break;
+      case PNG:
+        parts = PngDocumentLayout.create(size, random);
+        break;
+      case WORD:
+        parts = OfficeDocumentLayout.createWordDocument(size, random);
+        break;
+      case EXCEL:
+        parts = OfficeDocumentLayout.createExcelDocument(size, random);
+        break;
+      default:
+        throw new IllegalArgumentException(String.format(
+            "Synthetic document with type '%s' is not supported", testDocumentType.getType()));
+    }
+    return new SyntheticDocument(testDocumentType, size, seed, parts);
+  }
+
+  static void checkMinimalSize(String format, long size, long minimalSize) {
+    if (size < minimalSize) {
+      throw new IllegalArgumentException(String.format(
+          "Synthetic %s document size should be at least %d bytes, but was %d",
+          format, minimalSize, size));
+    }
+  }
+}
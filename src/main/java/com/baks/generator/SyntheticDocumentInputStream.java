@@ -0,0 +1,28 @@
+package com.baks.generator;
+
+import java.io.SequenceInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Content of synthetic document. Content is generated while the stream is read, so memory usage
+ * doesn't depend on the document size.
+ */
+public final class SyntheticDocumentInputStream extends SequenceInputStream {
+
+  private final long documentSize;
+
+  SyntheticDocumentInputStream(List<DocumentPart> parts, long documentSize) {
+    super(Collections.enumeration(
+        parts.stream().map(DocumentPart::open).collect(Collectors.toList())));
+    this.documentSize = documentSize;
+  }
+
+  /**
+   * Returns total size of the document in bytes.
+   */
+  public long getDocumentSize() {
+    return documentSize;
+  }
+}
@@ -0,0 +1,68 @@
+package com.baks.load;
+
+import com.baks.enums.LoadOperation;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency statistics of single load operation. Response time is measured from the intended start
+ * time given by the schedule, so time spent in the queue is included and coordinated omission
+ * doesn't hide latency. Service time is measured from the actual request start. Values are
+ * recorded in microseconds.
+ */
+final class LoadOperationStatistics {
+
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+  private final LoadOperation operation;
+  private final Recorder responseTimeRecorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+  private final Recorder serviceTimeRecorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+  private final LongAdder errorsCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+
+  LoadOperationStatistics(LoadOperation operation) {
+    this.operation = operation;
+  }
+
+  LoadOperation getOperation() {
+    return operation;
+  }
+
+  void recordCompletion(long intendedStartNanos, long actualStartNanos, long endNanos,
+      boolean successful) {
+    responseTimeRecorder.recordValue(
+        TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos));
+    serviceTimeRecorder.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - actualStartNanos));
+    if (!successful) {
+      errorsCount.increment();
+    }
+  }
+
+  void recordDropped() {
+    droppedCount.increment();
+  }
+
+  long getErrorsCount() {
+    return errorsCount.sum();
+  }
+
+  long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * Returns response time histogram recorded since the previous call.
+   */
+  Histogram getResponseTimeHistogram() {
+    return responseTimeRecorder.getIntervalHistogram();
+  }
+
+  /**
+   * Returns service time histogram recorded since the previous call.
+   */
+  Histogram getServiceTimeHistogram() {
+    return serviceTimeRecorder.getIntervalHistogram();
+  }
+}
@@ -0,0 +1,366 @@
+package com.baks.load;
+
+import static com.baks.constants.ApiRequestsConstants.DOCUMENT_ID;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_ACTIVE_VALUE;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_KEY;
+import static com.baks.constants.ApiRequestsConstants.PER_PAGE_PARAM;
+import static com.baks.constants.ConfigurationConstants.PAGE_SIZE_DEFAULT_VALUE;
+import static com.baks.constants.TestDataConstants.TEST_DOCUMENT_CATEGORY_CODE;
+
+import com.baks.config.LoadConfiguration;
+import com.baks.enums.LoadOperation;
+import com.baks.exceptions.UnexpectedResponseException;
+import com.baks.pojo.response.MetadataObject;
+import com.baks.service.DocumentPlatformService;
+import com.baks.utils.ConcurrencyUtil;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Load runner, which replays weighted mix of DocumentPlatformService operations at target rate.
+ * Is started from command line: {@code java -jar api-test-demo-1.1-exec.jar --load.enabled=true
+ * --load.rate=100 --load.duration-seconds=300}.
+ *
+ * <p>Requests are started by open model schedule: request "i" is intended to start at
+ * "start + i / rate" regardless of completion of previous requests, so slow responses don't reduce
+ * the offered load. Latency histograms per operation are logged and written in HdrHistogram
+ * percentile distribution format into "load.report-directory".
+ */
+@Component
+@ConditionalOnProperty(prefix = "load", name = "enabled", havingValue = "true")
+public class LoadRunner implements ApplicationRunner {
+
+  private static final long AWAIT_TERMINATION_SECONDS = 60;
+  private static final double MICROS_IN_MILLISECOND = 1000.0;
+
+  Logger log = LoggerFactory.getLogger(LoadRunner.class);
+  private final DocumentPlatformService documentPlatformService;
+  private final LoadConfiguration loadConfiguration;
+  private final Map<LoadOperation, LoadOperationStatistics> statistics =
+      new EnumMap<>(LoadOperation.class);
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final AtomicLong addedDocumentsCount = new AtomicLong();
+  private final AtomicReferenceArray<String> documentIds;
+  private String categoryId;
+  private List<MetadataObject> mandatoryMetadata;
+
+  @Autowired
+  public LoadRunner(DocumentPlatformService documentPlatformService,
+      LoadConfiguration loadConfiguration) {
+    this.documentPlatformService = documentPlatformService;
+    this.loadConfiguration = loadConfiguration;
+    this.documentIds = new AtomicReferenceArray<>(loadConfiguration.getDocumentsRingSize());
+    for (LoadOperation operation : LoadOperation.values()) {
+      statistics.put(operation, new LoadOperationStatistics(operation));
+    }
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException, InterruptedException {
+    LoadOperation[] operationsMix = getOperationsMix();
+    prepareUser();
+    categoryId = documentPlatformService.getTestDocumentCategoryId();
+    mandatoryMetadata = documentPlatformService.getTestDocumentCategoryMandatoryMetaData();
+    ExecutorService requestsExecutor = ConcurrencyUtil.newUnboundedTaskExecutor("load-request");
+    try {
+      seedDocuments(requestsExecutor);
+      log.info("Load is started: {} requests per second during {} seconds",
+          loadConfiguration.getRate(), loadConfiguration.getDurationSeconds());
+      scheduleRequests(requestsExecutor, operationsMix);
+    } finally {
+      requestsExecutor.shutdown();
+      if (!requestsExecutor.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Not all requests are completed in {} seconds", AWAIT_TERMINATION_SECONDS);
+      }
+    }
+    report();
+  }
+
+  /*
+  Scheduler thread only waits for intended start time and hands off the request,
+  so the schedule is not delayed by slow responses.
+  Requests above "max-in-flight" limit are dropped and counted separately.
+   */
+  private void scheduleRequests(ExecutorService requestsExecutor, LoadOperation[] operationsMix) {
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / loadConfiguration.getRate();
+    long startNanos = System.nanoTime();
+    long endNanos = startNanos + TimeUnit.SECONDS.toNanos(loadConfiguration.getDurationSeconds());
+    for (long requestNumber = 0; ; requestNumber++) {
+      long intendedStartNanos = startNanos + requestNumber * intervalNanos;
+      if (intendedStartNanos - endNanos >= 0) {
+        return;
+      }
+      waitUntil(intendedStartNanos);
+      LoadOperation operation =
+          operationsMix[ThreadLocalRandom.current().nextInt(operationsMix.length)];
+      if (inFlightRequests.incrementAndGet() > loadConfiguration.getMaxInFlight()) {
+        inFlightRequests.decrementAndGet();
+        statistics.get(operation).recordDropped();
+        continue;
+      }
+      requestsExecutor.execute(() -> {
+        try {
+          executeOperation(operation, intendedStartNanos);
+        } finally {
+          inFlightRequests.decrementAndGet();
+        }
+      });
+    }
+  }
+
+  private static void waitUntil(long intendedStartNanos) {
+    long waitNanos;
+    while ((waitNanos = intendedStartNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(waitNanos);
+    }
+  }
+
+  private void executeOperation(LoadOperation operation, long intendedStartNanos) {
+    LoadOperationStatistics operationStatistics = statistics.get(operation);
+    long actualStartNanos = System.nanoTime();
+    boolean successful;
+    try {
+      Boolean operationResult = performOperation(operation);
+      if (operationResult == null) {
+        operationStatistics.recordDropped();
+        return;
+      }
+      successful = operationResult;
+    } catch (RuntimeException e) {
+      log.debug("Operation '{}' failed: {}", operation, e.getMessage());
+      successful = false;
+    }
+    operationStatistics.recordCompletion(intendedStartNanos, actualStartNanos, System.nanoTime(),
+        successful);
+  }
+
+  /*
+  Returns null when there is no document for the operation, so the request is not sent.
+   */
+  private Boolean performOperation(LoadOperation operation) {
+    if (operation == LoadOperation.UPLOAD) {
+      return uploadDocument() != null;
+    } else if (operation == LoadOperation.FILTER) {
+      return isStatusCode(documentPlatformService.getListOfFilteredDocumentsWithQueryParams(
+              Map.of(PER_PAGE_PARAM, PAGE_SIZE_DEFAULT_VALUE),
+              Map.of(LOCK_STATUS_KEY, LOCK_STATUS_ACTIVE_VALUE)),
+          HttpURLConnection.HTTP_OK);
+    } else if (operation == LoadOperation.DELETE_RECOVER) {
+      return deleteAndRecoverDocument();
+    }
+    String documentId = getDocumentId();
+    if (documentId == null) {
+      return null;
+    }
+    switch (operation) {
+      case DETAILS:
+        return isStatusCode(documentPlatformService.getDocumentDetailsById(documentId),
+            HttpURLConnection.HTTP_OK);
+      case DOWNLOAD:
+        return isStatusCode(documentPlatformService.downloadDocumentByIdUsingCustomSpecification(
+            documentId, documentPlatformService.getAuthorizedDpSpecification()),
+            HttpURLConnection.HTTP_OK);
+      case LOCK_STATUS:
+        return isStatusCode(documentPlatformService
+            .updateDocumentLockStatusUsingCustomSpecification(documentId, LOCK_STATUS_ACTIVE_VALUE,
+                documentPlatformService.getAuthorizedDpSpecification()),
+            HttpURLConnection.HTTP_OK);
+      default:
+        throw new IllegalArgumentException("Operation is not supported: " + operation);
+    }
+  }
+
+  private String uploadDocument() {
+    Response documentCreationResponse = documentPlatformService
+        .uploadPdfDocumentWithPredefinedMandatoryData(categoryId, mandatoryMetadata);
+    if (!isStatusCode(documentCreationResponse, HttpURLConnection.HTTP_CREATED)) {
+      return null;
+    }
+    String documentId = documentCreationResponse.jsonPath().getString(DOCUMENT_ID);
+    addDocumentId(documentId);
+    return documentId;
+  }
+
+  /*
+  Deleted document is taken out of the ring, so other operations don't get it until it is
+  recovered.
+   */
+  private Boolean deleteAndRecoverDocument() {
+    String documentId = takeDocumentId();
+    if (documentId == null) {
+      return null;
+    }
+    boolean successful = isStatusCode(documentPlatformService.deleteDocument(documentId),
+        HttpURLConnection.HTTP_NO_CONTENT)
+        && isStatusCode(documentPlatformService.recoverDocumentByIdUsingCustomSpecification(
+            documentId, documentPlatformService.getAuthorizedDpSpecification()),
+        HttpURLConnection.HTTP_OK);
+    if (successful) {
+      addDocumentId(documentId);
+    }
+    return successful;
+  }
+
+  private static boolean isStatusCode(Response response, int expectedStatusCode) {
+    return response.getStatusCode() == expectedStatusCode;
+  }
+
+  //------------------------Documents ring------------------------
+
+  private void addDocumentId(String documentId) {
+    int index = (int) (addedDocumentsCount.getAndIncrement() % documentIds.length());
+    documentIds.set(index, documentId);
+  }
+
+  private String getDocumentId() {
+    for (int attempt = 0; attempt < documentIds.length(); attempt++) {
+      String documentId = documentIds.get(getRandomDocumentIndex());
+      if (documentId != null) {
+        return documentId;
+      }
+    }
+    return null;
+  }
+
+  private String takeDocumentId() {
+    for (int attempt = 0; attempt < documentIds.length(); attempt++) {
+      String documentId = documentIds.getAndSet(getRandomDocumentIndex(), null);
+      if (documentId != null) {
+        return documentId;
+      }
+    }
+    return null;
+  }
+
+  private int getRandomDocumentIndex() {
+    long filledSlotsCount = Math.min(addedDocumentsCount.get(), documentIds.length());
+    return ThreadLocalRandom.current().nextInt((int) Math.max(filledSlotsCount, 1));
+  }
+
+  //------------------------Preparation------------------------
+
+  private LoadOperation[] getOperationsMix() {
+    List<LoadOperation> operationsMix = new ArrayList<>();
+    loadConfiguration.getMix().forEach((operation, weight) -> {
+      for (int i = 0; i < weight; i++) {
+        operationsMix.add(operation);
+      }
+    });
+    if (operationsMix.isEmpty() || loadConfiguration.getRate() <= 0) {
+      throw new IllegalArgumentException(
+          "Load mix should contain at least one operation with positive weight and rate should be"
+              + " positive");
+    }
+    return operationsMix.toArray(new LoadOperation[0]);
+  }
+
+  /*
+  Category for automation testing is created for every registered user,
+  so user is registered only when such category is absent.
+   */
+  private void prepareUser() {
+    boolean isUserRegistered = documentPlatformService.getDocumentCategoryObjectListFromResponse(
+            documentPlatformService.getDocumentCategories()).stream()
+        .anyMatch(category -> TEST_DOCUMENT_CATEGORY_CODE.equals(category.getCategoryCode()));
+    if (!isUserRegistered) {
+      Response registrationResponse = documentPlatformService.registerUserUsingCustomSpecification(
+          documentPlatformService.getAuthorizedDpSpecification());
+      if (!isStatusCode(registrationResponse, HttpURLConnection.HTTP_CREATED)) {
+        throw new UnexpectedResponseException(String.format(
+            "User registration for load is failed with status code %s; %n Response message is: %s",
+            registrationResponse.getStatusCode(), registrationResponse.getBody().asPrettyString()));
+      }
+    }
+  }
+
+  private void seedDocuments(ExecutorService requestsExecutor) throws InterruptedException {
+    List<Future<String>> uploads = new ArrayList<>();
+    for (int i = 0; i < loadConfiguration.getSeedDocuments(); i++) {
+      uploads.add(requestsExecutor.submit(this::uploadDocument));
+    }
+    for (Future<String> upload : uploads) {
+      try {
+        upload.get();
+      } catch (ExecutionException e) {
+        log.warn("Seed document upload failed: {}", e.getCause().getMessage());
+      }
+    }
+    if (loadConfiguration.getSeedDocuments() > 0 && addedDocumentsCount.get() == 0) {
+      throw new UnexpectedResponseException(String.format(
+          "None of %s seed documents is uploaded, load is not started",
+          loadConfiguration.getSeedDocuments()));
+    }
+    log.info("{} documents are uploaded before load", Math.min(addedDocumentsCount.get(),
+        documentIds.length()));
+  }
+
+  //------------------------Report------------------------
+
+  private void report() throws IOException {
+    Path reportDirectory = Paths.get(loadConfiguration.getReportDirectory());
+    Files.createDirectories(reportDirectory);
+    StringBuilder summary = new StringBuilder(String.format(
+        "%n%-15s %9s %7s %8s %10s %10s %10s %10s %10s %14s",
+        "operation", "count", "errors", "dropped", "p50, ms", "p90, ms", "p99, ms", "p99.9, ms",
+        "max, ms", "service p99"));
+    for (LoadOperationStatistics operationStatistics : statistics.values()) {
+      Histogram responseTime = operationStatistics.getResponseTimeHistogram();
+      Histogram serviceTime = operationStatistics.getServiceTimeHistogram();
+      summary.append(String.format(Locale.ROOT,
+          "%n%-15s %9d %7d %8d %10.1f %10.1f %10.1f %10.1f %10.1f %14.1f",
+          operationStatistics.getOperation(), responseTime.getTotalCount(),
+          operationStatistics.getErrorsCount(), operationStatistics.getDroppedCount(),
+          toMillis(responseTime.getValueAtPercentile(50)),
+          toMillis(responseTime.getValueAtPercentile(90)),
+          toMillis(responseTime.getValueAtPercentile(99)),
+          toMillis(responseTime.getValueAtPercentile(99.9)),
+          toMillis(responseTime.getMaxValue()),
+          toMillis(serviceTime.getValueAtPercentile(99))));
+      String operationName = operationStatistics.getOperation().name().toLowerCase(Locale.ROOT);
+      writePercentileDistribution(responseTime,
+          reportDirectory.resolve(operationName + "-response-time.hgrm"));
+      writePercentileDistribution(serviceTime,
+          reportDirectory.resolve(operationName + "-service-time.hgrm"));
+    }
+    log.info("Load is finished, response time is measured from intended start time:{}", summary);
+    log.info("Latency histograms are written into {}", reportDirectory.toAbsolutePath());
+  }
+
+  private static double toMillis(long micros) {
+    return micros / MICROS_IN_MILLISECOND;
+  }
+
+  private static void writePercentileDistribution(Histogram histogram, Path reportFile)
+      throws IOException {
+    try (PrintStream printStream = new PrintStream(Files.newOutputStream(reportFile))) {
+      histogram.outputPercentileDistribution(printStream, MICROS_IN_MILLISECOND);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.baks.pojo.testdata;
+
+import com.baks.digest.DocumentDigest;
+import com.baks.enums.TestDocumentType;
+import com.baks.utils.DigestUtil;
+
+/**
+ * Immutable in-memory copy of sample document stored in test data folder with precomputed size and
+ * digests.
+ */
+public final class SampleDocument {
+
+  private final TestDocumentType testDocumentType;
+  private final byte[] content;
+  private final DocumentDigest digest;
+
+  /**
+   * Creates sample document and computes digests of its content.
+   *
+   * @param testDocumentType type of the document
+   * @param content          document content, must not be modified after creation
+   */
+  public SampleDocument(TestDocumentType testDocumentType, byte[] content) {
+    this.testDocumentType = testDocumentType;
+    this.content = content;
+    this.digest = DigestUtil.digest(content);
+  }
+
+  public TestDocumentType getTestDocumentType() {
+    return testDocumentType;
+  }
+
+  /**
+   * Returns document content. The array is shared between all requests and must not be modified.
+   */
+  public byte[] getContent() {
+    return content;
+  }
+
+  public int getSize() {
+    return content.length;
+  }
+
+  public DocumentDigest getDigest() {
+    return digest;
+  }
+}
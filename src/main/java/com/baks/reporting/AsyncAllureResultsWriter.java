@@ -0,0 +1,188 @@
+package com.baks.reporting;
+
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.core.JsonProcessingException;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Allure results writer, which doesn't block test threads on file system writes. Results are
+ * serialized on the caller thread and handed to single background writer thread through bounded
+ * queue: callers wait only when the queue is full. Every result is written into its own file as
+ * Allure expects. Results are written synchronously after the writer is closed, so nothing is lost
+ * on JVM shutdown.
+ */
+public class AsyncAllureResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+  private static final String TEST_RESULT_FILE_SUFFIX = "-result.json";
+  private static final String TEST_RESULT_CONTAINER_FILE_SUFFIX = "-container.json";
+  /*
+  Allure model is serialized by the mapper shaded into allure-java-commons, the same way as by
+  default FileSystemResultsWriter.
+   */
+  private static final ObjectMapper objectMapper = Allure2ModelJackson.createMapper();
+
+  Logger log = LoggerFactory.getLogger(AsyncAllureResultsWriter.class);
+  private final Path outputDirectory;
+  private final BlockingQueue<PendingFile> pendingFiles;
+  private final Thread writerThread;
+  private volatile boolean closed;
+
+  /**
+   * Creates writer and starts background writer thread.
+   *
+   * @param outputDirectory Allure results directory
+   * @param queueCapacity   maximum quantity of files waiting to be written
+   */
+  public AsyncAllureResultsWriter(Path outputDirectory, int queueCapacity) {
+    this.outputDirectory = outputDirectory;
+    this.pendingFiles = new ArrayBlockingQueue<>(queueCapacity);
+    try {
+      Files.createDirectories(outputDirectory);
+    } catch (IOException e) {
+      throw new AllureResultsWriteException("Could not create Allure results directory", e);
+    }
+    writerThread = new Thread(this::writePendingFiles, "allure-results-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void write(TestResult testResult) {
+    enqueue(testResult.getUuid() + TEST_RESULT_FILE_SUFFIX, serialize(testResult));
+  }
+
+  @Override
+  public void write(TestResultContainer testResultContainer) {
+    enqueue(testResultContainer.getUuid() + TEST_RESULT_CONTAINER_FILE_SUFFIX,
+        serialize(testResultContainer));
+  }
+
+  @Override
+  public void write(String source, InputStream attachment) {
+    try (attachment) {
+      enqueue(source, attachment.readAllBytes());
+    } catch (IOException e) {
+      throw new AllureResultsWriteException("Could not read attachment " + source, e);
+    }
+  }
+
+  /**
+   * Waits until all files, which are handed to the writer before this call, are written.
+   */
+  public void flush() {
+    if (closed) {
+      return;
+    }
+    PendingFile flushMarker = PendingFile.marker();
+    try {
+      pendingFiles.put(flushMarker);
+      flushMarker.written.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Writes all pending files and stops background writer thread. Files handed to the writer after
+   * this call are written synchronously.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      pendingFiles.put(PendingFile.STOP_MARKER);
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<PendingFile> remainingFiles = new ArrayList<>();
+    pendingFiles.drainTo(remainingFiles);
+    remainingFiles.forEach(this::writeFile);
+  }
+
+  private void enqueue(String fileName, byte[] content) {
+    PendingFile pendingFile = new PendingFile(fileName, content);
+    if (closed) {
+      writeFile(pendingFile);
+      return;
+    }
+    try {
+      pendingFiles.put(pendingFile);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      writeFile(pendingFile);
+    }
+  }
+
+  private void writePendingFiles() {
+    PendingFile pendingFile;
+    do {
+      try {
+        pendingFile = pendingFiles.take();
+      } catch (InterruptedException e) {
+        return;
+      }
+      writeFile(pendingFile);
+    } while (pendingFile != PendingFile.STOP_MARKER);
+  }
+
+  private void writeFile(PendingFile pendingFile) {
+    if (pendingFile.isMarker()) {
+      pendingFile.written.countDown();
+      return;
+    }
+    try {
+      Files.write(outputDirectory.resolve(pendingFile.fileName), pendingFile.content);
+    } catch (IOException e) {
+      log.error("Could not write Allure result file {}: {}", pendingFile.fileName, e.getMessage());
+    }
+  }
+
+  private static byte[] serialize(Object result) {
+    try {
+      return objectMapper.writeValueAsBytes(result);
+    } catch (JsonProcessingException e) {
+      throw new AllureResultsWriteException("Could not serialize Allure result", e);
+    }
+  }
+
+  private static final class PendingFile {
+
+    private static final PendingFile STOP_MARKER = marker();
+
+    private final String fileName;
+    private final byte[] content;
+    private final CountDownLatch written = new CountDownLatch(1);
+
+    PendingFile(String fileName, byte[] content) {
+      this.fileName = fileName;
+      this.content = content;
+    }
+
+    static PendingFile marker() {
+      return new PendingFile(null, null);
+    }
+
+    boolean isMarker() {
+      return fileName == null;
+    }
+  }
+}
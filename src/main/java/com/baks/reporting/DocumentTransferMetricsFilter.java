@@ -0,0 +1,100 @@
+package com.baks.reporting;
+
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOWNLOAD_URI;
+import static com.baks.constants.ApiEndpointsConstants.SPECIFIED_DOCUMENT_URI;
+import static org.apache.http.HttpHeaders.CONTENT_LENGTH;
+
+import com.baks.enums.TestDocumentType;
+import com.baks.service.UploadContentInputStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.File;
+import java.util.Arrays;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * RestAssured filter, which counts bytes of uploaded and downloaded documents per document type.
+ * Document type is resolved by the content type of the request or response.
+ */
+@Component
+public class DocumentTransferMetricsFilter implements Filter {
+
+  private static final String TRANSFERRED_BYTES_METRIC = "dp.documents.transferred.bytes";
+  private static final String OTHER_DOCUMENT_TYPE = "OTHER";
+
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public DocumentTransferMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    Response response = ctx.next(requestSpec, responseSpec);
+    String uriTemplate = requestSpec.getUserDefinedPath();
+    if (isDocumentUpload(requestSpec.getMethod(), uriTemplate)) {
+      long uploadedBytes = getRequestBodySize(requestSpec.getBody());
+      if (uploadedBytes > 0) {
+        recordTransferredBytes("upload", requestSpec.getContentType(), uploadedBytes);
+      }
+    } else if (DOWNLOAD_URI.equals(uriTemplate) && response.getStatusCode() < 300) {
+      recordTransferredBytes("download", response.getContentType(), getResponseBodySize(response));
+    }
+    return response;
+  }
+
+  private static boolean isDocumentUpload(String method, String uriTemplate) {
+    return "POST".equals(method) && DOCUMENTS_URI.equals(uriTemplate)
+        || "PUT".equals(method) && SPECIFIED_DOCUMENT_URI.equals(uriTemplate);
+  }
+
+  private static long getRequestBodySize(Object requestBody) {
+    if (requestBody instanceof File) {
+      return ((File) requestBody).length();
+    } else if (requestBody instanceof byte[]) {
+      return ((byte[]) requestBody).length;
+    } else if (requestBody instanceof UploadContentInputStream) {
+      return ((UploadContentInputStream) requestBody).getBytesRead();
+    }
+    return 0;
+  }
+
+  /*
+  Size is taken from Content-Length header, so downloaded document is not buffered only to be
+  measured. Body is read only if the header is absent, e.g. for chunked responses.
+   */
+  private static long getResponseBodySize(Response response) {
+    String contentLength = response.getHeader(CONTENT_LENGTH);
+    if (NumberUtils.isDigits(contentLength)) {
+      return Long.parseLong(contentLength);
+    }
+    return response.asByteArray().length;
+  }
+
+  private void recordTransferredBytes(String direction, String contentType, long bytes) {
+    meterRegistry.counter(TRANSFERRED_BYTES_METRIC,
+            "direction", direction,
+            "documentType", getDocumentType(contentType))
+        .increment(bytes);
+  }
+
+  private static String getDocumentType(String contentType) {
+    String mimeType = StringUtils.trimToEmpty(StringUtils.substringBefore(contentType, ";"));
+    return Arrays.stream(TestDocumentType.values())
+        .filter(documentType -> documentType.getRequestHeaderContentType()
+            .equalsIgnoreCase(mimeType))
+        .map(TestDocumentType::getType)
+        .findFirst()
+        .orElse(OTHER_DOCUMENT_TYPE);
+  }
+}
@@ -0,0 +1,26 @@
+package com.baks.reporting;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Allure listener, which attaches requests buffered by {@link SampledAllureRestAssuredFilter} to
+ * failed and broken tests. Is registered in META-INF/services.
+ */
+public class FailedTestAttachmentsListener implements TestLifecycleListener {
+
+  @Override
+  public void beforeTestStart(TestResult result) {
+    SampledAllureRestAssuredFilter.clearBufferedExchanges();
+  }
+
+  @Override
+  public void beforeTestStop(TestResult result) {
+    if (result.getStatus() == Status.FAILED || result.getStatus() == Status.BROKEN) {
+      SampledAllureRestAssuredFilter.attachBufferedExchanges(result);
+    } else {
+      SampledAllureRestAssuredFilter.clearBufferedExchanges();
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package com.baks.reporting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.qameta.allure.Allure;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * RestAssured filter, which records latency of every request into HDR histograms by HTTP method,
+ * URI template (i.e. "documents/{documentId}") and response status code. Filter is executed last,
+ * so only request sending and response reading are measured. Histograms are recorded without
+ * locks and can be shared between all test threads.
+ */
+@Component
+public class LatencyStatisticsFilter implements OrderedFilter {
+
+  public static final String LATENCY_REPORT_FILE = "target/latency-report.json";
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+  private static final double MICROS_IN_MILLISECOND = 1000.0;
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+  private static final Comparator<EndpointLatency> ENDPOINTS_ORDER =
+      Comparator.comparing((EndpointLatency latency) -> latency.uriTemplate)
+          .thenComparing(latency -> latency.method)
+          .thenComparingInt(latency -> latency.statusCode);
+
+  Logger log = LoggerFactory.getLogger(LatencyStatisticsFilter.class);
+  private final ConcurrentMap<String, EndpointLatency> endpointsLatency =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final long startNanos = System.nanoTime();
+
+  @Autowired
+  public LatencyStatisticsFilter(MeterRegistry meterRegistry) {
+    Gauge.builder("dp.requests.in.flight", inFlightRequests, AtomicInteger::get)
+        .description("Requests which are sent but not completed yet")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    String method = requestSpec.getMethod();
+    String uriTemplate = requestSpec.getBasePath() + requestSpec.getUserDefinedPath();
+    inFlightRequests.incrementAndGet();
+    long requestStartNanos = System.nanoTime();
+    int statusCode = 0;
+    try {
+      Response response = ctx.next(requestSpec, responseSpec);
+      statusCode = response.getStatusCode();
+      return response;
+    } finally {
+      long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStartNanos);
+      inFlightRequests.decrementAndGet();
+      String endpointKey = method + " " + uriTemplate + " " + statusCode;
+      int responseStatusCode = statusCode;
+      endpointsLatency.computeIfAbsent(endpointKey,
+              key -> new EndpointLatency(method, uriTemplate, responseStatusCode))
+          .record(latencyMicros);
+    }
+  }
+
+  /**
+   * Filter is executed after all other filters, i.e. after Allure attachments are prepared.
+   */
+  @Override
+  public int getOrder() {
+    return LOWEST_PRECEDENCE;
+  }
+
+  /**
+   * Returns quantity of requests which are sent but not completed yet.
+   */
+  public int getInFlightRequestsCount() {
+    return inFlightRequests.get();
+  }
+
+  /**
+   * Creates latency statistics of all recorded requests: count, throughput and p50/p90/p99/p99.9
+   * percentiles in milliseconds per endpoint.
+   *
+   * @return latency statistics in JSON format
+   */
+  public String getLatencyStatistics() {
+    double elapsedSeconds = Math.max(System.nanoTime() - startNanos, 1)
+        / (double) TimeUnit.SECONDS.toNanos(1);
+    List<EndpointLatency> sortedEndpointsLatency = new ArrayList<>(endpointsLatency.values());
+    sortedEndpointsLatency.sort(ENDPOINTS_ORDER);
+    List<Map<String, Object>> endpoints = new ArrayList<>();
+    for (EndpointLatency endpointLatency : sortedEndpointsLatency) {
+      endpoints.add(endpointLatency.getStatistics(elapsedSeconds));
+    }
+    Map<String, Object> latencyStatistics = new LinkedHashMap<>();
+    latencyStatistics.put("elapsedSeconds", elapsedSeconds);
+    latencyStatistics.put("endpoints", endpoints);
+    try {
+      return objectMapper.writeValueAsString(latencyStatistics);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize latency statistics: " + e.getMessage(),
+          e);
+    }
+  }
+
+  /**
+   * Attaches latency statistics to Allure report and writes them into "target/latency-report.json".
+   * Statistics are cumulative, so the last call contains data of the whole run.
+   */
+  public void reportLatencyStatistics() {
+    String latencyStatistics = getLatencyStatistics();
+    Allure.addAttachment("Latency statistics", "application/json", latencyStatistics, ".json");
+    writeLatencyReport(latencyStatistics);
+  }
+
+  @PreDestroy
+  void writeFinalLatencyReport() {
+    if (!endpointsLatency.isEmpty()) {
+      writeLatencyReport(getLatencyStatistics());
+    }
+  }
+
+  /*
+  Report is written into temporary file and then moved, so parallel writers don't corrupt it.
+   */
+  private synchronized void writeLatencyReport(String latencyStatistics) {
+    Path reportFile = Paths.get(LATENCY_REPORT_FILE);
+    try {
+      Files.createDirectories(reportFile.toAbsolutePath().getParent());
+      Path temporaryFile = Files.createTempFile(reportFile.toAbsolutePath().getParent(),
+          "latency-report", ".tmp");
+      Files.write(temporaryFile, latencyStatistics.getBytes(StandardCharsets.UTF_8));
+      Files.move(temporaryFile, reportFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      log.warn("Failed to write latency report: {}", e.getMessage());
+    }
+  }
+
+  private static final class EndpointLatency {
+
+    private final String method;
+    private final String uriTemplate;
+    private final int statusCode;
+    private final Histogram latencyHistogram = new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+
+    EndpointLatency(String method, String uriTemplate, int statusCode) {
+      this.method = method;
+      this.uriTemplate = uriTemplate;
+      this.statusCode = statusCode;
+    }
+
+    void record(long latencyMicros) {
+      latencyHistogram.recordValue(latencyMicros);
+    }
+
+    Map<String, Object> getStatistics(double elapsedSeconds) {
+      Histogram histogram = latencyHistogram.copy();
+      Map<String, Object> statistics = new LinkedHashMap<>();
+      statistics.put("method", method);
+      statistics.put("uri", uriTemplate);
+      statistics.put("status", statusCode);
+      statistics.put("count", histogram.getTotalCount());
+      statistics.put("throughputPerSecond", histogram.getTotalCount() / elapsedSeconds);
+      statistics.put("p50Millis", toMillis(histogram.getValueAtPercentile(50)));
+      statistics.put("p90Millis", toMillis(histogram.getValueAtPercentile(90)));
+      statistics.put("p99Millis", toMillis(histogram.getValueAtPercentile(99)));
+      statistics.put("p999Millis", toMillis(histogram.getValueAtPercentile(99.9)));
+      statistics.put("maxMillis", toMillis(histogram.getMaxValue()));
+      return statistics;
+    }
+
+    private static double toMillis(long micros) {
+      return micros / MICROS_IN_MILLISECOND;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.baks.reporting;
+
+import com.baks.config.MetricsConfiguration;
+import com.baks.utils.ConcurrencyUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports metrics of the run in Prometheus text format. Metrics are written into configured report
+ * file when application context is closed. When "metrics.scrape-port" is positive, metrics are
+ * also served on "http://localhost:{scrape-port}/metrics" during the run, so long soak runs can be
+ * scraped and graphed.
+ */
+@Component
+public class PrometheusMetricsExporter {
+
+  private static final String SCRAPE_PATH = "/metrics";
+
+  Logger log = LoggerFactory.getLogger(PrometheusMetricsExporter.class);
+  private final PrometheusMeterRegistry meterRegistry;
+  private final MetricsConfiguration metricsConfiguration;
+  private HttpServer scrapeServer;
+  private ExecutorService scrapeExecutor;
+
+  @Autowired
+  public PrometheusMetricsExporter(PrometheusMeterRegistry meterRegistry,
+      MetricsConfiguration metricsConfiguration) {
+    this.meterRegistry = meterRegistry;
+    this.metricsConfiguration = metricsConfiguration;
+  }
+
+  @PostConstruct
+  void startScrapeServer() throws IOException {
+    if (metricsConfiguration.getScrapePort() <= 0) {
+      return;
+    }
+    scrapeExecutor = ConcurrencyUtil.newUnboundedTaskExecutor("metrics-scrape");
+    scrapeServer = HttpServer.create(
+        new InetSocketAddress(metricsConfiguration.getScrapePort()), 0);
+    scrapeServer.createContext(SCRAPE_PATH, this::handleScrapeRequest);
+    scrapeServer.setExecutor(scrapeExecutor);
+    scrapeServer.start();
+    log.info("Metrics are served on http://localhost:{}{}", metricsConfiguration.getScrapePort(),
+        SCRAPE_PATH);
+  }
+
+  @PreDestroy
+  void exportMetrics() {
+    if (scrapeServer != null) {
+      scrapeServer.stop(0);
+      scrapeExecutor.shutdownNow();
+    }
+    Path reportFile = Paths.get(metricsConfiguration.getReportFile());
+    try {
+      Files.createDirectories(reportFile.toAbsolutePath().getParent());
+      Files.write(reportFile, meterRegistry.scrape().getBytes(StandardCharsets.UTF_8));
+      log.info("Metrics are written into {}", reportFile.toAbsolutePath());
+    } catch (IOException e) {
+      log.warn("Failed to write metrics report: {}", e.getMessage());
+    }
+  }
+
+  private void handleScrapeRequest(HttpExchange exchange) throws IOException {
+    byte[] metrics = meterRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", TextFormat.CONTENT_TYPE_004);
+    exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, metrics.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(metrics);
+    }
+  }
+}
@@ -0,0 +1,256 @@
+package com.baks.reporting;
+
+import static org.apache.http.HttpHeaders.CONTENT_LENGTH;
+
+import com.baks.config.AllureReportingConfiguration;
+import com.baks.enums.AllureAttachmentsMode;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replacement of AllureRestAssured filter with configurable attachments mode, see
+ * {@link AllureAttachmentsMode}. Requests of successful tests are not rendered unless they are
+ * sampled or have error status code: they are kept in bounded per thread buffer and rendered only
+ * when the test fails, see {@link FailedTestAttachmentsListener}. Bodies are read only when the
+ * exchange is attached: binary bodies are replaced by their size (and MD5 hash, if enabled), text
+ * bodies are truncated to configured length.
+ */
+@Component
+public class SampledAllureRestAssuredFilter implements OrderedFilter {
+
+  private static final String REQUEST_TEMPLATE = "http-request.ftl";
+  private static final String RESPONSE_TEMPLATE = "http-response.ftl";
+  private static final Pattern TEXT_CONTENT_TYPE =
+      Pattern.compile("(?i).*(json|xml|text|html|x-www-form-urlencoded).*");
+  private static final ThreadLocal<Deque<CapturedExchange>> BUFFERED_EXCHANGES =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  private final AllureReportingConfiguration reportingConfiguration;
+
+  @Autowired
+  public SampledAllureRestAssuredFilter(AllureReportingConfiguration reportingConfiguration) {
+    this.reportingConfiguration = reportingConfiguration;
+  }
+
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    AllureAttachmentsMode mode = reportingConfiguration.getMode();
+    if (mode == AllureAttachmentsMode.OFF
+        || Allure.getLifecycle().getCurrentTestCase().isEmpty()) {
+      return ctx.next(requestSpec, responseSpec);
+    }
+    Response response = ctx.next(requestSpec, responseSpec);
+    CapturedExchange exchange = new CapturedExchange(() -> captureRequest(requestSpec),
+        () -> captureResponse(response));
+    if (isAttachedImmediately(mode, response.getStatusCode())) {
+      exchange.attach(Allure.getLifecycle());
+    } else {
+      bufferExchange(exchange);
+    }
+    return response;
+  }
+
+  /**
+   * Filter is executed after other filters, as AllureRestAssured filter.
+   */
+  @Override
+  public int getOrder() {
+    return LOWEST_PRECEDENCE;
+  }
+
+  /**
+   * Renders requests buffered by current thread and adds them to attachments of the test result.
+   */
+  static void attachBufferedExchanges(TestResult testResult) {
+    Deque<CapturedExchange> bufferedExchanges = BUFFERED_EXCHANGES.get();
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    for (CapturedExchange exchange : bufferedExchanges) {
+      exchange.attach(lifecycle, testResult);
+    }
+    bufferedExchanges.clear();
+  }
+
+  static void clearBufferedExchanges() {
+    BUFFERED_EXCHANGES.get().clear();
+  }
+
+  private boolean isAttachedImmediately(AllureAttachmentsMode mode, int statusCode) {
+    if (mode == AllureAttachmentsMode.FULL || statusCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+      return true;
+    }
+    return mode == AllureAttachmentsMode.SAMPLED
+        && ThreadLocalRandom.current().nextDouble() < reportingConfiguration.getSampleRate();
+  }
+
+  private void bufferExchange(CapturedExchange exchange) {
+    Deque<CapturedExchange> bufferedExchanges = BUFFERED_EXCHANGES.get();
+    bufferedExchanges.addLast(exchange);
+    while (bufferedExchanges.size() > reportingConfiguration.getFailureBufferSize()) {
+      bufferedExchanges.removeFirst();
+    }
+  }
+
+  private HttpRequestAttachment captureRequest(FilterableRequestSpecification requestSpec) {
+    HttpRequestAttachment.Builder requestAttachmentBuilder =
+        HttpRequestAttachment.Builder.create("Request", requestSpec.getURI())
+            .setMethod(requestSpec.getMethod())
+            .setHeaders(toMap(requestSpec.getHeaders()))
+            .setCookies(toMap(requestSpec.getCookies()));
+    Object requestBody = requestSpec.getBody();
+    if (requestBody != null) {
+      requestAttachmentBuilder.setBody(getRequestBodyDescription(requestBody));
+    } else if (requestSpec.getFormParams() != null && !requestSpec.getFormParams().isEmpty()) {
+      // Form parameters are sent as request body, so they are shown in place of the body.
+      requestAttachmentBuilder.setBody(getFormParamsDescription(requestSpec.getFormParams()));
+    }
+    return requestAttachmentBuilder.build();
+  }
+
+  private HttpResponseAttachment captureResponse(Response response) {
+    return HttpResponseAttachment.Builder.create(response.getStatusLine())
+        .setResponseCode(response.getStatusCode())
+        .setHeaders(toMap(response.getHeaders()))
+        .setBody(getResponseBodyDescription(response))
+        .build();
+  }
+
+  private String getRequestBodyDescription(Object requestBody) {
+    if (requestBody instanceof File) {
+      File file = (File) requestBody;
+      return String.format("<file '%s': %s bytes>", file.getName(), file.length());
+    } else if (requestBody instanceof byte[]) {
+      return getBinaryBodyDescription((byte[]) requestBody);
+    } else if (requestBody instanceof InputStream) {
+      return "<stream>";
+    }
+    return truncate(requestBody.toString());
+  }
+
+  private String getFormParamsDescription(Map<String, String> formParams) {
+    return truncate(formParams.entrySet().stream()
+        .map(formParam -> formParam.getKey() + "=" + formParam.getValue())
+        .collect(Collectors.joining("&")));
+  }
+
+  /*
+  Size of binary body is taken from Content-Length header, so the body is not read unless it
+  should be hashed or the header is absent.
+   */
+  private String getResponseBodyDescription(Response response) {
+    String contentType = response.getContentType();
+    if (contentType != null && TEXT_CONTENT_TYPE.matcher(contentType).matches()) {
+      return truncate(new String(response.asByteArray(), StandardCharsets.UTF_8));
+    }
+    String contentLength = response.getHeader(CONTENT_LENGTH);
+    if (!reportingConfiguration.isHashBinaryBodies() && NumberUtils.isDigits(contentLength)) {
+      return getBinaryBodyDescription(Long.parseLong(contentLength));
+    }
+    return getBinaryBodyDescription(response.asByteArray());
+  }
+
+  private String getBinaryBodyDescription(byte[] body) {
+    if (body.length == 0 || !reportingConfiguration.isHashBinaryBodies()) {
+      return getBinaryBodyDescription(body.length);
+    }
+    return String.format("<binary: %s bytes, md5=%s>", body.length, DigestUtils.md5Hex(body));
+  }
+
+  private static String getBinaryBodyDescription(long size) {
+    return size == 0 ? "" : String.format("<binary: %s bytes>", size);
+  }
+
+  private String truncate(String body) {
+    int maxBodyLength = reportingConfiguration.getMaxBodyLength();
+    if (body.length() <= maxBodyLength) {
+      return body;
+    }
+    return body.substring(0, maxBodyLength)
+        + String.format("%n<truncated: %s of %s characters are shown>", maxBodyLength,
+        body.length());
+  }
+
+  private static Map<String, String> toMap(Iterable<? extends NameAndValue> items) {
+    Map<String, String> result = new LinkedHashMap<>();
+    items.forEach(item -> result.put(item.getName(), item.getValue()));
+    return result;
+  }
+
+  /**
+   * Request and response captured by the filter. Attachment data is created from the request and
+   * the response, and is rendered into HTML, only when the exchange is attached.
+   */
+  private static final class CapturedExchange {
+
+    private final Supplier<HttpRequestAttachment> request;
+    private final Supplier<HttpResponseAttachment> response;
+
+    CapturedExchange(Supplier<HttpRequestAttachment> request,
+        Supplier<HttpResponseAttachment> response) {
+      this.request = request;
+      this.response = response;
+    }
+
+    void attach(AllureLifecycle lifecycle) {
+      addAttachment(lifecycle, request.get(), REQUEST_TEMPLATE);
+      addAttachment(lifecycle, response.get(), RESPONSE_TEMPLATE);
+    }
+
+    void attach(AllureLifecycle lifecycle, TestResult testResult) {
+      testResult.getAttachments().add(
+          writeAttachment(lifecycle, request.get(), REQUEST_TEMPLATE));
+      testResult.getAttachments().add(
+          writeAttachment(lifecycle, response.get(), RESPONSE_TEMPLATE));
+    }
+
+    private static void addAttachment(AllureLifecycle lifecycle, AttachmentData data,
+        String template) {
+      AttachmentContent content = new FreemarkerAttachmentRenderer(template).render(data);
+      lifecycle.addAttachment(data.getName(), content.getContentType(),
+          content.getFileExtension(), content.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Attachment writeAttachment(AllureLifecycle lifecycle, AttachmentData data,
+        String template) {
+      AttachmentContent content = new FreemarkerAttachmentRenderer(template).render(data);
+      String source = UUID.randomUUID() + "-attachment" + content.getFileExtension();
+      lifecycle.writeAttachment(source, new ByteArrayInputStream(
+          content.getContent().getBytes(StandardCharsets.UTF_8)));
+      return new Attachment()
+          .setName(data.getName())
+          .setType(content.getContentType())
+          .setSource(source);
+    }
+  }
+}
@@ -1,10 +1,14 @@
 package com.baks.service;
 
 import static com.baks.constants.ApiRequestsConstants.BEARER_HEADER_VALUE;
+import static com.baks.constants.ApiRequestsConstants.EXPIRES_IN;
 
+import com.baks.config.IdentityConfiguration;
 import com.baks.exceptions.UnexpectedResponseException;
+import com.baks.reporting.LatencyStatisticsFilter;
+import com.baks.reporting.SampledAllureRestAssuredFilter;
 import com.baks.specs.TokenRequestSpecifications;
-import io.qameta.allure.restassured.AllureRestAssured;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
@@ -12,7 +16,13 @@ import java.net.HttpURLConnection;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,72 +36,139 @@ public class AuthorizationService {
 
   @Autowired
   TokenRequestSpecifications tokenRequestSpecifications;
+  @Autowired
+  IdentityConfiguration identityConfiguration;
+  @Autowired
+  TokenRetryPolicy tokenRetryPolicy;
+  @Autowired
+  SampledAllureRestAssuredFilter allureRestAssuredFilter;
+  @Autowired
+  LatencyStatisticsFilter latencyStatisticsFilter;
+  @Autowired
+  MeterRegistry meterRegistry;
   Logger log = LoggerFactory.getLogger(AuthorizationService.class);
   private static final String ACCESS_TOKEN_PATH = "access_token";
-  private static final ThreadLocal<String> ACCESS_TOKEN = new ThreadLocal<>();
-  private static final ThreadLocal<LocalDateTime> LAST_REQUEST_TIME = new ThreadLocal<>();
-  private static final int EXPIRATION_INTERVAL_IN_MINUTES = 10;
-  private static final int TOKEN_REQUEST_TRIES = 3;
-  private static final long TOKEN_REQUEST_INTERVAL_IN_MILLIS = Duration.ofSeconds(30).toMillis();
+  private static final Object TOKEN_REFRESH_LOCK = new Object();
+  private static volatile CachedAccessToken cachedAccessToken;
+  private final ScheduledExecutorService tokenRefreshScheduler =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "access-token-refresher");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private ScheduledFuture<?> scheduledTokenRefresh;
 
   /**
-   * Clears access tokens.
+   * Clears shared access token, so the next caller requests a new one.
    */
   public static void clearAccessToken() {
-    ACCESS_TOKEN.remove();
-    LAST_REQUEST_TIME.remove();
-  }
-
-  private static void setAccessToken(String accessToken) {
-    ACCESS_TOKEN.set(accessToken);
+    cachedAccessToken = null;
   }
 
-
   /**
-   * Generates access token for Dp requests.
+   * Generates access token for Dp requests. Token is shared between all test threads: when it is
+   * absent or expired only one thread performs the token request while others wait for its result.
+   * When identity service keeps failing, callers fail fast, see {@link TokenRetryPolicy}.
+   * In steady state token is renewed in background before its expiration, see
+   * {@link #refreshAccessToken()}.
    *
    * @return access token
    */
   private String getAccessToken() {
-    if (StringUtils.isEmpty(ACCESS_TOKEN.get()) || isTokenExpired()) {
-      setAccessToken(getOauthAccessToken());
-      LAST_REQUEST_TIME.set(LocalDateTime.now());
+    CachedAccessToken accessToken = cachedAccessToken;
+    if (isTokenMissingOrExpired(accessToken)) {
+      synchronized (TOKEN_REFRESH_LOCK) {
+        accessToken = cachedAccessToken;
+        if (isTokenMissingOrExpired(accessToken)) {
+          accessToken = requestAndCacheAccessToken(requestAccessTokenWithRetry());
+          countTokenRefresh("request-path");
+        }
+      }
     }
-    return ACCESS_TOKEN.get();
+    return accessToken.getValue();
   }
 
-  private String getOauthAccessToken() {
-    Response accessTokenResponse = requestAccessTokenWithRetry();
-    checkAccessTokenResponse(accessTokenResponse);
-    return extractAccessTokenFromResponse(accessTokenResponse);
+  private CachedAccessToken requestAndCacheAccessToken(Response accessTokenResponse) {
+    CachedAccessToken accessToken = getOauthAccessToken(accessTokenResponse);
+    cachedAccessToken = accessToken;
+    scheduleTokenRefresh(Duration.ofSeconds(getRefreshDelayInSeconds(accessToken)));
+    return accessToken;
   }
 
-  // Is used for cases when auth service is down for a while.
-  private Response requestAccessTokenWithRetry() {
-    Response accessTokenResponse = requestAccessToken();
+  /*
+  Background refresh performs single attempt without waiting between retries:
+  next attempt is scheduled according to retry policy backoff or circuit open state interval.
+   */
+  private void refreshAccessToken() {
     try {
-      for (int tryNumber = 1; tryNumber <= TOKEN_REQUEST_TRIES; tryNumber++) {
-        if (accessTokenResponse.getStatusCode() != HttpURLConnection.HTTP_OK) {
-          log.warn("Access token requests is not successful, status code is {};"
-                  + "\n Performing additional try #{}",
-              accessTokenResponse.getStatusCode(), tryNumber);
-          Thread.sleep(TOKEN_REQUEST_INTERVAL_IN_MILLIS);
-          accessTokenResponse = requestAccessToken();
-        } else {
-          break;
-        }
+      Response accessTokenResponse =
+          tokenRetryPolicy.execute(this::requestAccessToken, this::isSuccessfulResponse, 1);
+      synchronized (TOKEN_REFRESH_LOCK) {
+        requestAndCacheAccessToken(accessTokenResponse);
       }
-    } catch (InterruptedException e) {
-      log.warn(e.getMessage());
-      Thread.currentThread().interrupt();
+      countTokenRefresh("background");
+      log.info("Access token is refreshed in background");
+    } catch (RuntimeException e) {
+      // Current token is still used until it is expired, then it is requested on the request path.
+      log.warn("Background access token refresh failed: {}", e.getMessage());
+      scheduleTokenRefresh(tokenRetryPolicy.getNextAttemptDelay());
     }
-    return accessTokenResponse;
+  }
+
+  private synchronized void scheduleTokenRefresh(Duration delay) {
+    if (tokenRefreshScheduler.isShutdown()) {
+      return;
+    }
+    if (scheduledTokenRefresh != null) {
+      scheduledTokenRefresh.cancel(false);
+    }
+    scheduledTokenRefresh = tokenRefreshScheduler.schedule(this::refreshAccessToken,
+        delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /*
+  Token is renewed ahead of expiration to avoid blocking of test threads on the token request.
+  If token lifetime is shorter than configured "refresh ahead" interval,
+  token is renewed in the middle of its lifetime.
+   */
+  private long getRefreshDelayInSeconds(CachedAccessToken accessToken) {
+    long lifetimeInSeconds = Duration.between(LocalDateTime.now(), accessToken.getExpiresAt())
+        .getSeconds();
+    long refreshAheadInSeconds = identityConfiguration.getTokenRefreshAheadSeconds();
+    if (lifetimeInSeconds <= refreshAheadInSeconds) {
+      return Math.max(lifetimeInSeconds / 2, 1);
+    }
+    return lifetimeInSeconds - refreshAheadInSeconds;
+  }
+
+  private void countTokenRefresh(String refreshMode) {
+    meterRegistry.counter("dp.token.refreshes", "mode", refreshMode).increment();
+  }
+
+  @PreDestroy
+  void stopTokenRefresh() {
+    tokenRefreshScheduler.shutdownNow();
+  }
+
+  private CachedAccessToken getOauthAccessToken(Response accessTokenResponse) {
+    checkAccessTokenResponse(accessTokenResponse);
+    return new CachedAccessToken(extractAccessTokenFromResponse(accessTokenResponse),
+        LocalDateTime.now().plusSeconds(extractExpiresInFromResponse(accessTokenResponse)));
+  }
+
+  // Is used for cases when auth service is down for a while.
+  private Response requestAccessTokenWithRetry() {
+    return tokenRetryPolicy.execute(this::requestAccessToken, this::isSuccessfulResponse);
+  }
+
+  private boolean isSuccessfulResponse(Response accessTokenResponse) {
+    return accessTokenResponse.getStatusCode() == HttpURLConnection.HTTP_OK;
   }
 
   private Response requestAccessToken() {
     return RestAssured
         .given(tokenRequestSpecifications.getDefaultUserTokenRequestSpecification())
-        .filters(new AllureRestAssured())
+        .filters(allureRestAssuredFilter, latencyStatisticsFilter)
         .post();
   }
 
@@ -106,6 +183,21 @@ public class AuthorizationService {
     }
   }
 
+  /*
+  Token lifetime in seconds is taken from "expires_in" field of the token response.
+  If the response doesn't contain it, value requested in src/main/resources/application.yml
+  "expires_in" field is used.
+  Token should expire in 3600 sec. (1h), but currently, generated token is expired in 5-10 min,
+   so lifetime is capped by "token-max-lifetime-seconds" (5 min by default).
+   */
+  private long extractExpiresInFromResponse(Response accessTokenResponse) {
+    String expiresIn = accessTokenResponse.getBody().jsonPath().getString(EXPIRES_IN);
+    if (!NumberUtils.isDigits(expiresIn)) {
+      expiresIn = identityConfiguration.getFormParams().get(EXPIRES_IN);
+    }
+    return Math.min(Long.parseLong(expiresIn), identityConfiguration.getTokenMaxLifetimeSeconds());
+  }
+
   private void checkAccessTokenResponse(Response accessTokenResponse) {
     if (accessTokenResponse.getStatusCode() != HttpURLConnection.HTTP_OK) {
       throw new UnexpectedResponseException(
@@ -121,18 +213,9 @@ public class AuthorizationService {
     }
   }
 
-  /*
-  To reduce quantity of access token requests.
-  Token should expire in 3600 sec. (1h)
-  Is defined in src/main/resources/application.yml "expires_in" field,
-   but currently, generated token is expired in 5-10 min ¯\_(ツ)_/¯
-   so it was decided to set 5 min into EXPIRATION_INTERVAL field.
-   */
-  private static boolean isTokenExpired() {
-    LocalDateTime lastRequestTime =
-        LAST_REQUEST_TIME.get().plusMinutes(EXPIRATION_INTERVAL_IN_MINUTES);
-    LocalDateTime currentTime = LocalDateTime.now();
-    return currentTime.isAfter(lastRequestTime);
+  private static boolean isTokenMissingOrExpired(CachedAccessToken accessToken) {
+    return accessToken == null || StringUtils.isEmpty(accessToken.getValue())
+        || accessToken.isExpired();
   }
 
   /**
@@ -0,0 +1,29 @@
+package com.baks.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable access token value shared between all test threads together with its expiration time.
+ */
+final class CachedAccessToken {
+
+  private final String value;
+  private final LocalDateTime expiresAt;
+
+  CachedAccessToken(String value, LocalDateTime expiresAt) {
+    this.value = value;
+    this.expiresAt = expiresAt;
+  }
+
+  String getValue() {
+    return value;
+  }
+
+  LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  boolean isExpired() {
+    return LocalDateTime.now().isAfter(expiresAt);
+  }
+}
@@ -0,0 +1,105 @@
+package com.baks.service;
+
+import com.baks.pojo.response.DocumentDetailsObject;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+/**
+ * Lazy iterator over all pages of documents list. The first page is requested on the first
+ * {@link #hasNext()} call, while documents of a page are consumed the next page is fetched in the
+ * background. Iteration ends with the first page which is shorter than the page size. Closing the
+ * iterator discards the prefetched page, so iteration can be stopped at any point.
+ */
+public final class DocumentPageIterator implements Iterator<DocumentDetailsObject>, AutoCloseable {
+
+  private final IntFunction<List<DocumentDetailsObject>> pageLoader;
+  private final int pageSize;
+  private final Executor prefetchExecutor;
+  private Iterator<DocumentDetailsObject> currentPage = Collections.emptyIterator();
+  private CompletableFuture<List<DocumentDetailsObject>> nextPage;
+  private int nextPageIndex;
+  private boolean lastPageLoaded;
+  private boolean closed;
+
+  /**
+   * Creates iterator.
+   *
+   * @param pageLoader       loads page by zero based page index
+   * @param pageSize         requested page size
+   * @param prefetchExecutor executor of background page requests
+   */
+  DocumentPageIterator(IntFunction<List<DocumentDetailsObject>> pageLoader, int pageSize,
+      Executor prefetchExecutor) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size should be positive, but was " + pageSize);
+    }
+    this.pageLoader = pageLoader;
+    this.pageSize = pageSize;
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext()) {
+      if (closed || lastPageLoaded) {
+        return false;
+      }
+      if (nextPage == null) {
+        nextPage = fetchPage(nextPageIndex);
+      }
+      List<DocumentDetailsObject> page = awaitPage(nextPage);
+      nextPageIndex++;
+      lastPageLoaded = page.size() < pageSize;
+      nextPage = lastPageLoaded ? null : fetchPage(nextPageIndex);
+      currentPage = page.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public DocumentDetailsObject next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("All pages of documents are iterated");
+    }
+    return currentPage.next();
+  }
+
+  /**
+   * Returns the number of pages received so far.
+   */
+  public int getLoadedPagesCount() {
+    return nextPageIndex;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    currentPage = Collections.emptyIterator();
+    if (nextPage != null) {
+      nextPage.cancel(false);
+      nextPage = null;
+    }
+  }
+
+  private CompletableFuture<List<DocumentDetailsObject>> fetchPage(int pageIndex) {
+    return CompletableFuture.supplyAsync(() -> pageLoader.apply(pageIndex), prefetchExecutor);
+  }
+
+  private static List<DocumentDetailsObject> awaitPage(
+      CompletableFuture<List<DocumentDetailsObject>> page) {
+    try {
+      return page.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,380 @@
+package com.baks.service;
+
+import static com.baks.constants.ApiEndpointsConstants.DELETED_DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_COUNT_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOWNLOAD_URI;
+import static com.baks.constants.ApiEndpointsConstants.HARD_DELETE_BY_DOCUMENT_ID_URI;
+import static com.baks.constants.ApiEndpointsConstants.LOCK_STATUS_URI;
+import static com.baks.constants.ApiEndpointsConstants.MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.RECOVER_MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.RECOVER_URI;
+import static com.baks.constants.ApiEndpointsConstants.SPECIFIED_DOCUMENT_URI;
+import static com.baks.constants.ApiRequestsConstants.CORRELATION_ID_HEADER;
+import static com.baks.constants.ApiRequestsConstants.DOCUMENT_CATEGORY_HEADER;
+import static com.baks.constants.ApiRequestsConstants.DOCUMENT_TITLE_HEADER;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_HEADER;
+import static com.baks.constants.ApiRequestsConstants.USER_ID_HEADER;
+import static com.baks.constants.TestDataConstants.USER_ID_VALUE;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
+import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+
+import com.baks.config.GatewayConfiguration;
+import com.baks.constants.TestDataConstants;
+import com.baks.enums.TestDocumentType;
+import com.baks.utils.ConcurrencyUtil;
+import com.baks.utils.TestDataUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asynchronous Document Platform client for the same endpoints as {@link DocumentPlatformService}.
+ * Requests are sent by non-blocking JDK HTTP client, so many requests can be in flight without
+ * dedicating a thread per request. Each method returns CompletableFuture which is completed when
+ * the response is received.
+ *
+ * <p>Authorization token, test document category and its mandatory metadata are resolved on the
+ * caller thread before the request is sent.
+ *
+ * <p>Requests don't pass RestAssured filters, so they are not included into latency statistics,
+ * transferred bytes metrics and Allure attachments. Server certificates are trusted as for
+ * RestAssured requests, but, unlike RestAssured, host name of the certificate is verified.
+ */
+@Service
+public class DocumentPlatformAsyncClient {
+
+  private static final String DOCUMENT_ID_PLACEHOLDER = "{documentId}";
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final GatewayConfiguration gatewayConfiguration;
+  private final AuthorizationService authorizationService;
+  private final DocumentPlatformService documentPlatformService;
+  private final ExecutorService responseExecutor =
+      ConcurrencyUtil.newUnboundedTaskExecutor("dp-async-client");
+  private HttpClient httpClient;
+  private URI baseUri;
+
+  @Autowired
+  public DocumentPlatformAsyncClient(GatewayConfiguration gatewayConfiguration,
+      AuthorizationService authorizationService,
+      DocumentPlatformService documentPlatformService) {
+    this.gatewayConfiguration = gatewayConfiguration;
+    this.authorizationService = authorizationService;
+    this.documentPlatformService = documentPlatformService;
+  }
+
+  /*
+  JDK HTTP client allows to switch off hostname verification only by JVM-wide system property, so
+  it is left enabled.
+   */
+  @PostConstruct
+  void initHttpClient() {
+    baseUri = URI.create(gatewayConfiguration.getHost()).resolve(gatewayConfiguration.getPath());
+    httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .sslContext(createTrustAllSslContext())
+        .executor(responseExecutor)
+        .build();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    responseExecutor.shutdownNow();
+  }
+
+  //------------------------Get document requests------------------------
+
+  /**
+   * Sends GET request for document details by DocumentId.
+   *
+   * @return future of document details response
+   */
+  public CompletableFuture<HttpResponse<String>> getDocumentDetailsById(String documentId) {
+    return sendAsync(authorizedRequest(documentUri(SPECIFIED_DOCUMENT_URI, documentId)).GET());
+  }
+
+  /**
+   * Sends POST request for list of NOT deleted Documents with specified filter parameters.
+   *
+   * @return future of response with filtered list of not deleted Documents
+   */
+  public CompletableFuture<HttpResponse<String>> getListOfFilteredDocuments(Object filterParams) {
+    return sendAsync(authorizedRequest(uri(DOCUMENTS_FILTERED_LIST_URI))
+        .POST(jsonBody(filterParams)));
+  }
+
+  /**
+   * Sends POST request for list of NOT deleted Documents with specified query parameters.
+   *
+   * @return future of response with filtered list of not deleted Documents
+   */
+  public CompletableFuture<HttpResponse<String>> getListOfDocumentsWithQueryParams(
+      Map<String, Object> queryParams) {
+    return sendAsync(authorizedRequest(uri(DOCUMENTS_FILTERED_LIST_URI, queryParams))
+        .POST(BodyPublishers.noBody()));
+  }
+
+  /**
+   * Sends POST request to count NOT deleted Documents.
+   *
+   * @return future of response with count of not deleted Documents
+   */
+  public CompletableFuture<HttpResponse<String>> countDocuments() {
+    return sendAsync(authorizedRequest(uri(DOCUMENTS_COUNT_URI)).POST(BodyPublishers.noBody()));
+  }
+
+  /**
+   * Sends POST request for list of deleted Documents.
+   *
+   * @return future of response with list of deleted Documents
+   */
+  public CompletableFuture<HttpResponse<String>> getListOfDeletedDocuments() {
+    return sendAsync(authorizedRequest(uri(DELETED_DOCUMENTS_FILTERED_LIST_URI))
+        .POST(BodyPublishers.noBody()));
+  }
+
+  //------------------------Download document requests------------------------
+
+  /**
+   * Sends GET request to download document by DocumentId.
+   *
+   * @return future of response with downloaded document content
+   */
+  public CompletableFuture<HttpResponse<byte[]>> downloadDocumentById(String documentId) {
+    return httpClient.sendAsync(
+        authorizedRequest(documentUri(DOWNLOAD_URI, documentId)).GET().build(),
+        BodyHandlers.ofByteArray());
+  }
+
+  /**
+   * Sends GET request to download document by DocumentId. Future is completed when response
+   * headers are received, document content is read from the response body stream while it is
+   * received, so it is never buffered as a whole. The body stream should be closed by the caller.
+   *
+   * @return future of response with stream of downloaded document content
+   */
+  public CompletableFuture<HttpResponse<InputStream>> downloadDocumentStreamById(
+      String documentId) {
+    return httpClient.sendAsync(
+        authorizedRequest(documentUri(DOWNLOAD_URI, documentId)).GET().build(),
+        BodyHandlers.ofInputStream());
+  }
+
+  //------------------------Upload document requests------------------------
+
+  /**
+   * Sends POST request to upload specified by type document without optional document parameters,
+   * only mandatory data is specified.
+   *
+   * @param testDocumentType type of uploaded document
+   * @return future of document creation response
+   */
+  public CompletableFuture<HttpResponse<String>> uploadDocumentByType(
+      TestDocumentType testDocumentType) {
+    return uploadDocument(testDocumentType, documentBody(testDocumentType),
+        documentPlatformService.getTestDocumentCategoryMandatoryMetaDataHeaders());
+  }
+
+  /**
+   * Sends POST request to upload document content of specified type without optional document
+   * parameters, only mandatory data is specified. Content is read while it is sent: with
+   * Content-Length header when content length is known, with chunked transfer encoding otherwise.
+   *
+   * @param testDocumentType type of uploaded document
+   * @param content          content of uploaded document: file, stream or channel
+   * @return future of document creation response
+   */
+  public CompletableFuture<HttpResponse<String>> uploadDocumentContent(
+      TestDocumentType testDocumentType, DocumentUploadContent content) {
+    return uploadDocument(testDocumentType, content.toBodyPublisher(),
+        documentPlatformService.getTestDocumentCategoryMandatoryMetaDataHeaders());
+  }
+
+  /**
+   * Sends POST request to upload PDF document with specified document parameters.
+   *
+   * @return future of document creation response
+   */
+  public CompletableFuture<HttpResponse<String>> uploadPdfDocumentWithSpecifiedParameters(
+      Map<String, Object> documentParameters) {
+    return uploadDocument(TestDocumentType.PDF, documentBody(TestDocumentType.PDF),
+        documentParameters);
+  }
+
+  private CompletableFuture<HttpResponse<String>> uploadDocument(
+      TestDocumentType testDocumentType, BodyPublisher documentBody,
+      Map<String, Object> documentParameters) {
+    Map<String, Object> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType());
+    headers.put(DOCUMENT_TITLE_HEADER, TestDataConstants.DOCUMENT_TITLE_VALUE);
+    headers.put(DOCUMENT_CATEGORY_HEADER, documentPlatformService.getTestDocumentCategoryId());
+    headers.putAll(documentParameters);
+    HttpRequest.Builder request = authorizedRequest(uri(DOCUMENTS_URI))
+        .POST(documentBody);
+    headers.forEach((name, value) -> request.setHeader(name, String.valueOf(value)));
+    return sendAsync(request);
+  }
+
+  //------------------------Delete document requests------------------------
+
+  /**
+   * Sends DELETE request to soft delete specified document by DocumentId.
+   */
+  public CompletableFuture<HttpResponse<String>> deleteDocument(String documentId) {
+    return sendAsync(authorizedRequest(documentUri(SPECIFIED_DOCUMENT_URI, documentId)).DELETE());
+  }
+
+  /**
+   * Sends DELETE request to soft delete multiple documents by Document Ids.
+   */
+  public CompletableFuture<HttpResponse<String>> deleteMultipleDocumentsById(
+      List<String> documentsToDelete) {
+    return sendAsync(authorizedRequest(uri(MULTIPLE_URI))
+        .method("DELETE", jsonBody(documentsToDelete)));
+  }
+
+  /**
+   * Sends DELETE request to hard delete multiple documents by Document Ids.
+   */
+  public CompletableFuture<HttpResponse<String>> hardDeleteDocumentsById(
+      List<String> documentsIds) {
+    return sendAsync(authorizedRequest(uri(HARD_DELETE_BY_DOCUMENT_ID_URI))
+        .method("DELETE", jsonBody(documentsIds)));
+  }
+
+  //------------------------Recover document requests------------------------
+
+  /**
+   * Sends PUT request to recover document by DocumentId.
+   */
+  public CompletableFuture<HttpResponse<String>> recoverDocumentById(String documentId) {
+    return sendAsync(authorizedRequest(documentUri(RECOVER_URI, documentId))
+        .PUT(BodyPublishers.noBody()));
+  }
+
+  /**
+   * Sends PUT request to recover multiple documents by DocumentId's.
+   */
+  public CompletableFuture<HttpResponse<String>> recoverMultipleDocumentsById(
+      List<String> documentsToRecover) {
+    return sendAsync(authorizedRequest(uri(RECOVER_MULTIPLE_URI))
+        .PUT(jsonBody(documentsToRecover)));
+  }
+
+  //------------------------Update document requests------------------------
+
+  /**
+   * Sends PUT request to update document lock status.
+   *
+   * @param lockStatusValue lock status value to be applied for uploaded document.
+   */
+  public CompletableFuture<HttpResponse<String>> updateDocumentLockStatus(String documentId,
+      String lockStatusValue) {
+    return sendAsync(authorizedRequest(documentUri(LOCK_STATUS_URI, documentId))
+        .header(LOCK_STATUS_HEADER, lockStatusValue)
+        .PUT(BodyPublishers.noBody()));
+  }
+
+  //------------------------Request building------------------------
+
+  private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest.Builder request) {
+    return httpClient.sendAsync(request.build(), BodyHandlers.ofString());
+  }
+
+  private HttpRequest.Builder authorizedRequest(URI uri) {
+    return HttpRequest.newBuilder(uri)
+        .header(CONTENT_TYPE, ContentType.JSON.toString())
+        .header(USER_ID_HEADER, USER_ID_VALUE)
+        .header(AUTHORIZATION, authorizationService.getBearerToken())
+        .header(CORRELATION_ID_HEADER, TestDataUtil.generateUuid());
+  }
+
+  private URI uri(String endpoint) {
+    return baseUri.resolve(endpoint);
+  }
+
+  private URI uri(String endpoint, Map<String, Object> queryParams) {
+    if (queryParams.isEmpty()) {
+      return uri(endpoint);
+    }
+    String query = queryParams.entrySet().stream()
+        .map(param -> encode(param.getKey()) + "=" + encode(String.valueOf(param.getValue())))
+        .collect(Collectors.joining("&"));
+    return uri(endpoint + "?" + query);
+  }
+
+  private URI documentUri(String endpoint, String documentId) {
+    return uri(endpoint.replace(DOCUMENT_ID_PLACEHOLDER, encode(documentId)));
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private static BodyPublisher jsonBody(Object body) {
+    try {
+      return BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Failed to serialize request body: " + e.getMessage(), e);
+    }
+  }
+
+  private static BodyPublisher documentBody(TestDocumentType testDocumentType) {
+    return BodyPublishers.ofByteArray(
+        TestDataUtil.getSampleDocument(testDocumentType).getContent());
+  }
+
+  private static SSLContext createTrustAllSslContext() {
+    TrustManager trustAllManager = new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        // all client certificates are trusted
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        // all server certificates are trusted
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    };
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, new TrustManager[]{trustAllManager}, new SecureRandom());
+      return sslContext;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to create SSL context: " + e.getMessage(), e);
+    }
+  }
+}
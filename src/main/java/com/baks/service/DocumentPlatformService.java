@@ -1,5 +1,21 @@
 package com.baks.service;
 
+import static com.baks.constants.ApiEndpointsConstants.DELETED_DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_COUNT_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENT_CATEGORIES_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENT_CATEGORY_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOWNLOAD_URI;
+import static com.baks.constants.ApiEndpointsConstants.EXPIRATION_URI;
+import static com.baks.constants.ApiEndpointsConstants.HARD_DELETE_BY_DOCUMENT_ID_URI;
+import static com.baks.constants.ApiEndpointsConstants.LOCK_STATUS_URI;
+import static com.baks.constants.ApiEndpointsConstants.METADATA_URI;
+import static com.baks.constants.ApiEndpointsConstants.MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.RECOVER_MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.RECOVER_URI;
+import static com.baks.constants.ApiEndpointsConstants.REGISTER_USER_URI;
+import static com.baks.constants.ApiEndpointsConstants.SPECIFIED_DOCUMENT_URI;
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_CATEGORIES_PATH;
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_CATEGORY_HEADER;
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_CATEGORY_ID;
@@ -12,6 +28,7 @@ import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 
 import com.baks.constants.TestDataConstants;
 import com.baks.enums.TestDocumentType;
+import com.baks.generator.SyntheticDocument;
 import com.baks.pojo.response.DocumentCategoryObject;
 import com.baks.pojo.response.MetadataObject;
 import com.baks.utils.TestDataUtil;
@@ -35,22 +52,6 @@ public class DocumentPlatformService extends DpApiService {
   private static final ThreadLocal<String> TEST_DOCUMENT_CATEGORY_ID = new ThreadLocal<>();
   private static final ThreadLocal<List<MetadataObject>> MANDATORY_METADATA =
       ThreadLocal.withInitial(ArrayList::new);
-  private static final String DOCUMENTS_URI = "documents";
-  private static final String SPECIFIED_DOCUMENT_URI = "documents/{documentId}";
-  private static final String RECOVER_URI = "documents/{documentId}/recover";
-  private static final String DOWNLOAD_URI = "documents/{documentId}/download";
-  private static final String LOCK_STATUS_URI = "documents/{documentId}/lock-status";
-  private static final String EXPIRATION_URI = "documents/{documentId}/expires-at";
-  private static final String METADATA_URI = "documents/{documentId}/metadata";
-  private static final String DOCUMENTS_FILTERED_LIST_URI = "documents/filter";
-  private static final String DOCUMENTS_COUNT_URI = "documents/filter/count";
-  private static final String DELETED_DOCUMENTS_FILTERED_LIST_URI = "documents/filter/deleted";
-  private static final String MULTIPLE_URI = "documents/multiple";
-  private static final String HARD_DELETE_BY_DOCUMENT_ID_URI = "documents/hard-by-document-ids";
-  private static final String RECOVER_MULTIPLE_URI = "documents/recover/multiple";
-  private static final String REGISTER_USER_URI = "register-user";
-  private static final String DOCUMENT_CATEGORIES_URI = "document-categories";
-  private static final String DOCUMENT_CATEGORY_URI = "document-categories/{categoryId}";
 
   private RequestSpecification getRequestSpecificationByDocumentType(
       TestDocumentType testDocumentType) {
@@ -58,7 +59,7 @@ public class DocumentPlatformService extends DpApiService {
         .given(getAuthorizedDpSpecification())
         .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
         .header(DOCUMENT_TITLE_HEADER, TestDataConstants.DOCUMENT_TITLE_VALUE)
-        .body(TestDataUtil.getSampleDocumentByType(testDocumentType.getType()));
+        .body(TestDataUtil.getSampleDocument(testDocumentType).getContent());
   }
 
   private RequestSpecification getCustomRequestSpecificationForPdfDocument(
@@ -68,7 +69,7 @@ public class DocumentPlatformService extends DpApiService {
         .given(requestSpecification)
         .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
         .header(DOCUMENT_TITLE_HEADER, TestDataConstants.DOCUMENT_TITLE_VALUE)
-        .body(TestDataUtil.getSampleDocumentByType(testDocumentType.getType()));
+        .body(TestDataUtil.getSampleDocument(testDocumentType).getContent());
   }
 
   //------------------------Get document requests------------------------
@@ -209,6 +210,18 @@ public class DocumentPlatformService extends DpApiService {
         .post(DELETED_DOCUMENTS_FILTERED_LIST_URI);
   }
 
+  /**
+   * Sends POST request for list of deleted Documents with specified query parameters.
+   *
+   * @return RestAssured response with list of deleted Documents
+   */
+  public Response getListOfDeletedDocumentsWithQueryParams(Map<String, Object> queryParams) {
+    return RestAssured
+        .given(getAuthorizedDpSpecification())
+        .queryParams(queryParams)
+        .post(DELETED_DOCUMENTS_FILTERED_LIST_URI);
+  }
+
   //------------------------Download document requests------------------------
 
   /**
@@ -259,7 +272,7 @@ public class DocumentPlatformService extends DpApiService {
         .given(getAuthorizedDpSpecification())
         .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
         .header(DOCUMENT_TITLE_HEADER, TestDataConstants.DOCUMENT_TITLE_VALUE)
-        .body(TestDataUtil.getSampleDocumentByType(testDocumentType.getType()))
+        .body(TestDataUtil.getSampleDocument(testDocumentType).getContent())
         .post(DOCUMENTS_URI);
   }
 
@@ -274,7 +287,7 @@ public class DocumentPlatformService extends DpApiService {
         .given(getAuthorizedDpSpecification())
         .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
         .header(getTestDocumentCategoryHeader())
-        .body(TestDataUtil.getSampleDocumentByType(testDocumentType.getType()))
+        .body(TestDataUtil.getSampleDocument(testDocumentType).getContent())
         .post(DOCUMENTS_URI);
   }
 
@@ -350,6 +363,14 @@ public class DocumentPlatformService extends DpApiService {
         .delete(MULTIPLE_URI);
   }
 
+  /**
+   * Sends DELETE request to hard delete multiple documents by Document Ids.
+   */
+  public Response hardDeleteDocumentsById(List<String> documentsIds) {
+    return hardDeleteDocumentsByIdUsingCustomSpecification(documentsIds,
+        getAuthorizedDpSpecification());
+  }
+
   /**
    * Sends DELETE request to hard delete multiple documents by Document Ids using specified
    * RequestSpecification.
@@ -515,10 +536,25 @@ public class DocumentPlatformService extends DpApiService {
    * @return document creation response
    */
   public Response uploadPdfDocumentWithPredefinedMandatoryData() {
+    return uploadPdfDocumentWithPredefinedMandatoryData(getTestDocumentCategoryId(),
+        getTestDocumentCategoryMandatoryMetaData());
+  }
+
+  /**
+   * Sends POST request to upload PDF document with specified document category and generated values
+   * of its mandatory metadata. Category data is resolved by the caller, so the method can be used
+   * by concurrent uploads without document categories requests per upload.
+   *
+   * @param categoryId        document category id
+   * @param mandatoryMetadata mandatory metadata of the document category
+   * @return document creation response
+   */
+  public Response uploadPdfDocumentWithPredefinedMandatoryData(String categoryId,
+      List<MetadataObject> mandatoryMetadata) {
     return RestAssured
         .given(getCustomRequestSpecificationForPdfDocument(getAuthorizedDpSpecification()))
-        .header(getTestDocumentCategoryHeader())
-        .headers(getTestDocumentCategoryMandatoryMetaDataHeaders())
+        .header(DOCUMENT_CATEGORY_HEADER, categoryId)
+        .headers(TestDataUtil.generateMetadataHeader(mandatoryMetadata))
         .post(DOCUMENTS_URI);
   }
 
@@ -537,6 +573,41 @@ public class DocumentPlatformService extends DpApiService {
         .post(DOCUMENTS_URI);
   }
 
+  /**
+   * Sends POST request to upload synthetic document without optional document parameters. Document
+   * content is generated while it is sent, so documents of any size can be uploaded.
+   *
+   * @param syntheticDocument uploaded document
+   * @return document creation response
+   * @see com.baks.generator.SyntheticDocumentGenerator generator of synthetic documents
+   */
+  public Response uploadDocumentByType(SyntheticDocument syntheticDocument) {
+    return uploadDocumentContent(syntheticDocument.getTestDocumentType(),
+        DocumentUploadContent.ofSyntheticDocument(syntheticDocument));
+  }
+
+  /**
+   * Sends POST request to upload document content of specified type without optional document
+   * parameters. Content is read while it is sent with chunked transfer encoding, so it is never
+   * buffered as a whole. Use {@link DocumentPlatformAsyncClient} to send content with known length
+   * with Content-Length header.
+   *
+   * @param testDocumentType type of uploaded document
+   * @param content          content of uploaded document: file, stream or channel
+   * @return document creation response
+   */
+  public Response uploadDocumentContent(TestDocumentType testDocumentType,
+      DocumentUploadContent content) {
+    return RestAssured
+        .given(getAuthorizedDpSpecification())
+        .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
+        .header(DOCUMENT_TITLE_HEADER, TestDataConstants.DOCUMENT_TITLE_VALUE)
+        .header(getTestDocumentCategoryHeader())
+        .headers(getTestDocumentCategoryMandatoryMetaDataHeaders())
+        .body(content.openStream())
+        .post(DOCUMENTS_URI);
+  }
+
   /**
    * Sends PUT request to update document file without specified optional document parameters, only
    * mandatory data is specified.
@@ -601,7 +672,7 @@ public class DocumentPlatformService extends DpApiService {
         .given(getAuthorizedDpSpecification())
         .header(CONTENT_TYPE, testDocumentType.getRequestHeaderContentType())
         .headers(getTestDocumentCategoryMandatoryMetaDataHeaders())
-        .body(TestDataUtil.getSampleDocumentByType(testDocumentType.getType()))
+        .body(TestDataUtil.getSampleDocument(testDocumentType).getContent())
         .pathParam(DOCUMENT_ID, documentId)
         .put(SPECIFIED_DOCUMENT_URI);
   }
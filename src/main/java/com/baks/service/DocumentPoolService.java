@@ -0,0 +1,360 @@
+package com.baks.service;
+
+import static com.baks.constants.ApiRequestsConstants.DOCUMENT_ID;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_ACTIVE_VALUE;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_HEADER;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_KEY;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_READ_ONLY_VALUE;
+import static com.baks.constants.ApiRequestsConstants.PER_PAGE_PARAM;
+import static com.baks.constants.TestDataConstants.ANTIVIRUS_SCAN_STATUS_IN_PROGRESS;
+import static com.baks.constants.TestDataConstants.ANTIVIRUS_SCAN_STATUS_OK;
+
+import com.baks.config.DocumentPoolConfiguration;
+import com.baks.enums.DocumentPoolCategory;
+import com.baks.exceptions.UnexpectedResponseException;
+import com.baks.utils.DocumentsJsonUtil;
+import com.baks.utils.TestDataUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.response.Response;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pool of documents for tests. Pool is seeded once by existing documents from filter requests and
+ * then is refilled in background by producer, which uploads new documents and hands them out only
+ * after successful antivirus scan. Every document is handed out to a single caller, so tests don't
+ * need to list documents to find one to work on.
+ *
+ * <p>Producer can be paused, e.g. while isolated tests, which rely on stable quantity of documents,
+ * are executed. Documents uploaded by producer and not handed out are hard deleted on shutdown.
+ */
+@Service
+public class DocumentPoolService {
+
+  private static final long PRODUCER_TERMINATION_TIMEOUT_SECONDS = 10;
+  Logger log = LoggerFactory.getLogger(DocumentPoolService.class);
+  private final DocumentPlatformService documentPlatformService;
+  private final DocumentsUsageService documentsUsageService;
+  private final DocumentPoolConfiguration poolConfiguration;
+  private final Map<DocumentPoolCategory, BlockingQueue<String>> availableDocuments =
+      new EnumMap<>(DocumentPoolCategory.class);
+  private final Queue<PendingDocument> pendingScanDocuments = new ConcurrentLinkedQueue<>();
+  private final Set<String> producedDocuments = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService documentsProducer =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-pool-producer");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private volatile boolean seeded;
+  private volatile boolean refillPaused;
+
+  @Autowired
+  public DocumentPoolService(DocumentPlatformService documentPlatformService,
+      DocumentsUsageService documentsUsageService, DocumentPoolConfiguration poolConfiguration,
+      MeterRegistry meterRegistry) {
+    this.documentPlatformService = documentPlatformService;
+    this.documentsUsageService = documentsUsageService;
+    this.poolConfiguration = poolConfiguration;
+    for (DocumentPoolCategory category : DocumentPoolCategory.values()) {
+      BlockingQueue<String> categoryDocuments = new LinkedBlockingQueue<>();
+      availableDocuments.put(category, categoryDocuments);
+      Gauge.builder("dp.document.pool.available", categoryDocuments, BlockingQueue::size)
+          .description("Documents available in the documents pool")
+          .tag("category", category.name())
+          .register(meterRegistry);
+    }
+    Gauge.builder("dp.document.pool.pending.scan", pendingScanDocuments, Queue::size)
+        .description("Uploaded pool documents waiting for antivirus scan")
+        .register(meterRegistry);
+  }
+
+  public boolean isSeeded() {
+    return seeded;
+  }
+
+  /**
+   * Seeds the pool by existing documents of every category and starts background producer. Test
+   * user should be registered before the pool is seeded. Only the first call performs requests.
+   */
+  public void seed() {
+    if (seeded) {
+      return;
+    }
+    synchronized (this) {
+      if (!seeded) {
+        for (DocumentPoolCategory category : DocumentPoolCategory.values()) {
+          availableDocuments.get(category).addAll(getExistingDocumentsIdList(category));
+        }
+        seeded = true;
+        documentsProducer.scheduleWithFixedDelay(this::refill, 0,
+            poolConfiguration.getRefillIntervalMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Hands out document of specified category. If the pool is empty, document is created on the
+   * caller thread and is handed out after successful antivirus scan.
+   *
+   * @return id of the document, which is not used by other tests
+   */
+  public String acquire(DocumentPoolCategory category) {
+    seed();
+    String documentId = pollNotClaimedDocument(category);
+    if (documentId == null) {
+      log.info("Documents pool '{}' is empty, document is created on request", category);
+      documentId = createDocument(category);
+      documentsUsageService.tryClaim(documentId);
+    }
+    producedDocuments.remove(documentId);
+    return documentId;
+  }
+
+  /**
+   * Hands out available documents of specified category without waiting for new ones.
+   *
+   * @return list of documents id's, which may contain less than requested quantity of documents
+   */
+  public List<String> acquire(DocumentPoolCategory category, int documentsQty) {
+    seed();
+    List<String> documentsIdList = new ArrayList<>(documentsQty);
+    String documentId;
+    while (documentsIdList.size() < documentsQty
+        && (documentId = pollNotClaimedDocument(category)) != null) {
+      documentsIdList.add(documentId);
+    }
+    producedDocuments.removeAll(documentsIdList);
+    return documentsIdList;
+  }
+
+  /**
+   * Stops uploading of new documents by background producer. Method returns when producer has
+   * finished its current run, so no documents are created or deleted by producer until
+   * {@link #resumeRefill()} is called.
+   */
+  public void pauseRefill() {
+    refillPaused = true;
+    try {
+      documentsProducer.submit(() -> { }).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | RejectedExecutionException e) {
+      log.warn("Documents pool producer is not paused: {}", e.getMessage());
+    }
+  }
+
+  public void resumeRefill() {
+    refillPaused = false;
+  }
+
+  @PreDestroy
+  void stopProducer() {
+    documentsProducer.shutdownNow();
+    try {
+      documentsProducer.awaitTermination(PRODUCER_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    deleteProducedDocuments();
+  }
+
+  /*
+  Documents which were uploaded by producer, but were not handed out to tests, are hard deleted,
+  so the pool doesn't leave its documents in the environment.
+   */
+  private void deleteProducedDocuments() {
+    if (producedDocuments.isEmpty()) {
+      return;
+    }
+    List<String> documentsIdList = new ArrayList<>(producedDocuments);
+    try {
+      checkResponseStatusCode(documentPlatformService.hardDeleteDocumentsById(documentsIdList),
+          HttpURLConnection.HTTP_NO_CONTENT, "Hard delete documents of documents pool");
+      producedDocuments.removeAll(documentsIdList);
+    } catch (RuntimeException e) {
+      log.warn("Documents of documents pool are not deleted: {}", e.getMessage());
+    }
+  }
+
+  /*
+  Seeded documents can be claimed by tests which don't use the pool, such documents are skipped.
+   */
+  private String pollNotClaimedDocument(DocumentPoolCategory category) {
+    String documentId;
+    do {
+      documentId = availableDocuments.get(category).poll();
+    } while (documentId != null && !documentsUsageService.tryClaim(documentId));
+    return documentId;
+  }
+
+  private List<String> getExistingDocumentsIdList(DocumentPoolCategory category) {
+    Map<String, Object> queryParams = Map.of(PER_PAGE_PARAM, poolConfiguration.getSeedPageSize());
+    Response listOfDocuments;
+    switch (category) {
+      case ACTIVE:
+        listOfDocuments = documentPlatformService.getListOfFilteredDocumentsWithQueryParams(
+            queryParams, Map.of(LOCK_STATUS_KEY, LOCK_STATUS_ACTIVE_VALUE));
+        break;
+      case READ_ONLY:
+        listOfDocuments = documentPlatformService.getListOfFilteredDocumentsWithQueryParams(
+            queryParams, Map.of(LOCK_STATUS_KEY, LOCK_STATUS_READ_ONLY_VALUE));
+        break;
+      default:
+        listOfDocuments = documentPlatformService.getListOfDeletedDocuments();
+    }
+    checkResponseStatusCode(listOfDocuments, HttpURLConnection.HTTP_OK,
+        String.format("Get list of '%s' documents", category));
+    List<String> documentsIdList = new ArrayList<>();
+    DocumentsJsonUtil.readDocuments(listOfDocuments.asByteArray(), document -> {
+      if (ANTIVIRUS_SCAN_STATUS_OK.equals(document.getScanStatus())
+          && !documentsUsageService.isInUse(document.getDocumentId())) {
+        documentsIdList.add(document.getDocumentId());
+      }
+    });
+    return documentsIdList;
+  }
+
+  /*
+  Producer is run on single thread: it moves scanned documents to the pool and uploads new
+  documents for categories with less than "min-size" available documents.
+   */
+  private void refill() {
+    if (refillPaused) {
+      return;
+    }
+    try {
+      movePendingScannedDocuments();
+      for (DocumentPoolCategory category : DocumentPoolCategory.values()) {
+        int availableQty = availableDocuments.get(category).size();
+        if (availableQty >= poolConfiguration.getMinSize()) {
+          continue;
+        }
+        long pendingQty = pendingScanDocuments.stream()
+            .filter(pendingDocument -> pendingDocument.category == category).count();
+        for (long i = availableQty + pendingQty;
+            i < poolConfiguration.getTargetSize() && !refillPaused; i++) {
+          String documentId = uploadDocument(category);
+          producedDocuments.add(documentId);
+          pendingScanDocuments.add(new PendingDocument(category, documentId));
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Documents pool refill failed: {}", e.getMessage());
+    }
+  }
+
+  private void movePendingScannedDocuments() {
+    int pendingQty = pendingScanDocuments.size();
+    for (int i = 0; i < pendingQty; i++) {
+      PendingDocument pendingDocument = pendingScanDocuments.poll();
+      if (pendingDocument == null) {
+        return;
+      }
+      String scanStatus = getScanStatus(pendingDocument.documentId);
+      if (ANTIVIRUS_SCAN_STATUS_OK.equals(scanStatus)) {
+        if (pendingDocument.category == DocumentPoolCategory.DELETED) {
+          deleteDocument(pendingDocument.documentId);
+        }
+        availableDocuments.get(pendingDocument.category).offer(pendingDocument.documentId);
+      } else if (ANTIVIRUS_SCAN_STATUS_IN_PROGRESS.equals(scanStatus)) {
+        pendingScanDocuments.add(pendingDocument);
+      }
+    }
+  }
+
+  private String createDocument(DocumentPoolCategory category) {
+    String documentId = uploadDocument(category);
+    waitForAntivirusScanToBeCompleted(documentId);
+    if (category == DocumentPoolCategory.DELETED) {
+      deleteDocument(documentId);
+    }
+    return documentId;
+  }
+
+  private void waitForAntivirusScanToBeCompleted(String documentId) {
+    long deadlineMillis = System.currentTimeMillis() + poolConfiguration.getScanTimeoutMillis();
+    String scanStatus = getScanStatus(documentId);
+    while (ANTIVIRUS_SCAN_STATUS_IN_PROGRESS.equals(scanStatus)
+        && System.currentTimeMillis() < deadlineMillis) {
+      try {
+        Thread.sleep(poolConfiguration.getScanPollIntervalMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      scanStatus = getScanStatus(documentId);
+    }
+    if (!ANTIVIRUS_SCAN_STATUS_OK.equals(scanStatus)) {
+      throw new UnexpectedResponseException(String.format(
+          "Antivirus scan of document '%s' for documents pool is not completed successfully, "
+              + "scan status is '%s'", documentId, scanStatus));
+    }
+  }
+
+  private String getScanStatus(String documentId) {
+    return documentPlatformService.getDocumentDetailsById(documentId).jsonPath()
+        .getString("scanStatus");
+  }
+
+  private String uploadDocument(DocumentPoolCategory category) {
+    Response documentCreationResponse;
+    if (category == DocumentPoolCategory.READ_ONLY) {
+      documentCreationResponse = documentPlatformService.uploadPdfDocumentWithSpecifiedParameters(
+          TestDataUtil.getRequestHeadersWithMandatoryMeta(
+              Map.of(LOCK_STATUS_HEADER, LOCK_STATUS_READ_ONLY_VALUE),
+              documentPlatformService.getTestDocumentCategoryMandatoryMetaData()));
+    } else {
+      documentCreationResponse =
+          documentPlatformService.uploadPdfDocumentWithPredefinedMandatoryData();
+    }
+    checkResponseStatusCode(documentCreationResponse, HttpURLConnection.HTTP_CREATED,
+        String.format("Upload '%s' document for documents pool", category));
+    return documentCreationResponse.jsonPath().getString(DOCUMENT_ID);
+  }
+
+  private void deleteDocument(String documentId) {
+    checkResponseStatusCode(documentPlatformService.deleteDocument(documentId),
+        HttpURLConnection.HTTP_NO_CONTENT, "Delete document for documents pool");
+  }
+
+  private void checkResponseStatusCode(Response response, int expectedStatusCode,
+      String requestDescription) {
+    if (response.getStatusCode() != expectedStatusCode) {
+      throw new UnexpectedResponseException(String.format(
+          "%s: unexpected response status code %s; %n Response message is: %s",
+          requestDescription, response.getStatusCode(), response.getBody().asPrettyString()));
+    }
+  }
+
+  private static final class PendingDocument {
+
+    private final DocumentPoolCategory category;
+    private final String documentId;
+
+    PendingDocument(DocumentPoolCategory category, String documentId) {
+      this.category = category;
+      this.documentId = documentId;
+    }
+  }
+}
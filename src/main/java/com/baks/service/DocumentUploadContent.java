@@ -0,0 +1,134 @@
+package com.baks.service;
+
+import com.baks.generator.SyntheticDocument;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Content of uploaded document from a file, a stream or a channel. Content is sent while it is
+ * read and is never buffered as a whole: with Content-Length header when its length is known or
+ * with chunked transfer encoding otherwise. Content of a stream or a channel can be sent only once.
+ */
+public final class DocumentUploadContent {
+
+  public static final long UNKNOWN_LENGTH = -1;
+
+  private final Supplier<InputStream> contentSupplier;
+  private final long length;
+  private final Path path;
+  private final AtomicBoolean consumed;
+
+  private DocumentUploadContent(Supplier<InputStream> contentSupplier, long length, Path path,
+      boolean reusable) {
+    this.contentSupplier = contentSupplier;
+    this.length = length;
+    this.path = path;
+    this.consumed = reusable ? null : new AtomicBoolean();
+  }
+
+  /**
+   * Creates content of the specified file. Content can be sent any number of times.
+   */
+  public static DocumentUploadContent ofPath(Path path) {
+    try {
+      return new DocumentUploadContent(() -> openFile(path), Files.size(path), path, true);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read uploaded file: " + path, ex);
+    }
+  }
+
+  /**
+   * Creates content of the stream with unknown length, it is sent with chunked transfer encoding.
+   */
+  public static DocumentUploadContent ofInputStream(InputStream content) {
+    return ofInputStream(content, UNKNOWN_LENGTH);
+  }
+
+  /**
+   * Creates content of the stream with the specified length.
+   *
+   * @param content stream with document content, it is closed when the content is sent
+   * @param length  content length in bytes or {@link #UNKNOWN_LENGTH}
+   */
+  public static DocumentUploadContent ofInputStream(InputStream content, long length) {
+    return new DocumentUploadContent(() -> content, length, null, false);
+  }
+
+  /**
+   * Creates content of the channel with unknown length, it is sent with chunked transfer encoding.
+   */
+  public static DocumentUploadContent ofChannel(ReadableByteChannel content) {
+    return ofChannel(content, UNKNOWN_LENGTH);
+  }
+
+  /**
+   * Creates content of the channel with the specified length.
+   *
+   * @param content channel with document content, it is closed when the content is sent
+   * @param length  content length in bytes or {@link #UNKNOWN_LENGTH}
+   */
+  public static DocumentUploadContent ofChannel(ReadableByteChannel content, long length) {
+    return ofInputStream(Channels.newInputStream(content), length);
+  }
+
+  /**
+   * Creates content of the synthetic document. Content can be sent any number of times.
+   */
+  public static DocumentUploadContent ofSyntheticDocument(SyntheticDocument syntheticDocument) {
+    return new DocumentUploadContent(syntheticDocument::openStream, syntheticDocument.getSize(),
+        null, true);
+  }
+
+  public long getLength() {
+    return length;
+  }
+
+  public boolean isLengthKnown() {
+    return length != UNKNOWN_LENGTH;
+  }
+
+  /**
+   * Opens stream of the content.
+   *
+   * @throws IllegalStateException if content of a stream or a channel was already opened
+   */
+  public UploadContentInputStream openStream() {
+    if (consumed != null && consumed.getAndSet(true)) {
+      throw new IllegalStateException("Upload content of a stream can be sent only once");
+    }
+    return new UploadContentInputStream(contentSupplier.get());
+  }
+
+  /**
+   * Creates body publisher of JDK HTTP client which reads the content on demand.
+   */
+  BodyPublisher toBodyPublisher() {
+    if (path != null) {
+      try {
+        return BodyPublishers.ofFile(path);
+      } catch (FileNotFoundException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+    BodyPublisher publisher = BodyPublishers.ofInputStream(this::openStream);
+    return isLengthKnown() ? BodyPublishers.fromPublisher(publisher, length) : publisher;
+  }
+
+  private static InputStream openFile(Path path) {
+    try {
+      return Files.newInputStream(path);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read uploaded file: " + path, ex);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.baks.service;
+
+import static com.baks.constants.ApiRequestsConstants.LIMIT_PARAM;
+import static com.baks.constants.ApiRequestsConstants.OFFSET_PARAM;
+import static com.baks.constants.ConfigurationConstants.PAGE_SIZE_MAX_VALUE;
+
+import com.baks.enums.PaginationMode;
+import com.baks.exceptions.UnexpectedResponseException;
+import com.baks.pojo.response.DocumentDetailsObject;
+import com.baks.utils.ConcurrencyUtil;
+import com.baks.utils.DocumentsJsonUtil;
+import io.restassured.response.Response;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lazy streams over all pages of documents lists. Pages are requested on demand while the stream
+ * is consumed and the next page is prefetched in background, so documents of large tenants can be
+ * walked without loading them all. Streams should be closed, e.g. by try-with-resources, when they
+ * are not consumed to the end.
+ *
+ * <p>When all documents are required at once, {@link #scanNotDeletedDocuments(int)} requests all
+ * pages concurrently.
+ */
+@Service
+public class DocumentsPaginationService {
+
+  /**
+   * Quantity of documents shared by adjacent windows of the scan. Documents inserted or deleted
+   * while the scan is in progress shift following documents between windows, overlap keeps them in
+   * one of the windows as long as the shift is not bigger than the overlap.
+   */
+  static final int SCAN_WINDOWS_OVERLAP = 100;
+
+  private final DocumentPlatformService documentPlatformService;
+  private final ExecutorService pageRequestsExecutor =
+      ConcurrencyUtil.newUnboundedTaskExecutor("dp-page-requests");
+
+  @Autowired
+  public DocumentsPaginationService(DocumentPlatformService documentPlatformService) {
+    this.documentPlatformService = documentPlatformService;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    pageRequestsExecutor.shutdownNow();
+  }
+
+  /**
+   * Returns lazy stream of all NOT deleted documents.
+   *
+   * @param paginationMode page/per_page or offset/limit pagination
+   * @param pageSize       size of requested pages
+   */
+  public Stream<DocumentDetailsObject> streamNotDeletedDocuments(PaginationMode paginationMode,
+      int pageSize) {
+    return streamDocuments(paginationMode, pageSize,
+        documentPlatformService::getListOfDocumentsWithQueryParams,
+        "Get page of not deleted documents");
+  }
+
+  /**
+   * Returns lazy stream of all NOT deleted documents matching specified filter parameters.
+   *
+   * @param filterParams   filter parameters sent in request body
+   * @param paginationMode page/per_page or offset/limit pagination
+   * @param pageSize       size of requested pages
+   */
+  public Stream<DocumentDetailsObject> streamFilteredDocuments(Object filterParams,
+      PaginationMode paginationMode, int pageSize) {
+    return streamDocuments(paginationMode, pageSize,
+        queryParams -> documentPlatformService.getListOfFilteredDocumentsWithQueryParams(
+            queryParams, filterParams),
+        "Get page of filtered documents");
+  }
+
+  /**
+   * Returns lazy stream of all deleted documents.
+   *
+   * @param paginationMode page/per_page or offset/limit pagination
+   * @param pageSize       size of requested pages
+   */
+  public Stream<DocumentDetailsObject> streamDeletedDocuments(PaginationMode paginationMode,
+      int pageSize) {
+    return streamDocuments(paginationMode, pageSize,
+        documentPlatformService::getListOfDeletedDocumentsWithQueryParams,
+        "Get page of deleted documents");
+  }
+
+  /**
+   * Requests all NOT deleted documents by concurrent offset/limit requests of maximal page size.
+   * Windows are calculated by documents count requested before the scan, windows following the last
+   * one are requested until a window is not full, so documents inserted during the scan are not
+   * lost. Adjacent windows overlap by {@value #SCAN_WINDOWS_OVERLAP} documents and documents
+   * returned by several windows are merged, so documents which are not deleted during the scan are
+   * returned exactly once. Documents deleted during the scan could be returned if their window was
+   * requested before deletion.
+   *
+   * @param parallelism maximal quantity of requests in progress
+   * @return documents in the order of documents list and documents count before and after the scan
+   */
+  public DocumentsScanResult scanNotDeletedDocuments(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism should be positive, but was " + parallelism);
+    }
+    int initialCount = countNotDeletedDocuments();
+    int windowStep = PAGE_SIZE_MAX_VALUE - SCAN_WINDOWS_OVERLAP;
+    int plannedWindowsCount = Math.max(1, (initialCount + windowStep - 1) / windowStep);
+    List<List<DocumentDetailsObject>> windows =
+        fetchWindowsConcurrently(plannedWindowsCount, windowStep, parallelism);
+    List<DocumentDetailsObject> lastWindow = windows.get(windows.size() - 1);
+    while (lastWindow.size() == PAGE_SIZE_MAX_VALUE) {
+      lastWindow = fetchWindow((long) windows.size() * windowStep);
+      windows.add(lastWindow);
+    }
+    Map<String, DocumentDetailsObject> documents = new LinkedHashMap<>();
+    for (List<DocumentDetailsObject> window : windows) {
+      for (DocumentDetailsObject document : window) {
+        documents.putIfAbsent(document.getDocumentId(), document);
+      }
+    }
+    return new DocumentsScanResult(new ArrayList<>(documents.values()), initialCount,
+        countNotDeletedDocuments(), windows.size());
+  }
+
+  private List<List<DocumentDetailsObject>> fetchWindowsConcurrently(int windowsCount,
+      int windowStep, int parallelism) {
+    AtomicReferenceArray<List<DocumentDetailsObject>> windows =
+        new AtomicReferenceArray<>(windowsCount);
+    AtomicInteger nextWindow = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    Runnable worker = () -> {
+      int windowIndex;
+      while (!failed.get() && (windowIndex = nextWindow.getAndIncrement()) < windowsCount) {
+        try {
+          windows.set(windowIndex, fetchWindow((long) windowIndex * windowStep));
+        } catch (RuntimeException ex) {
+          failed.set(true);
+          throw ex;
+        }
+      }
+    };
+    CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, windowsCount)];
+    for (int i = 0; i < workers.length; i++) {
+      workers[i] = CompletableFuture.runAsync(worker, pageRequestsExecutor);
+    }
+    try {
+      CompletableFuture.allOf(workers).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+    List<List<DocumentDetailsObject>> result = new ArrayList<>(windowsCount);
+    for (int i = 0; i < windowsCount; i++) {
+      result.add(windows.get(i));
+    }
+    return result;
+  }
+
+  private List<DocumentDetailsObject> fetchWindow(long offset) {
+    return getDocumentsPage(documentPlatformService.getListOfDocumentsWithQueryParams(
+            Map.of(OFFSET_PARAM, offset, LIMIT_PARAM, PAGE_SIZE_MAX_VALUE)),
+        "Get window of not deleted documents");
+  }
+
+  private int countNotDeletedDocuments() {
+    Response countResponse = documentPlatformService.countDocumentsUsingCustomSpecification(
+        documentPlatformService.getAuthorizedDpSpecification());
+    checkResponseStatusCodeIs200(countResponse, "Count not deleted documents");
+    return countResponse.jsonPath().getInt("count");
+  }
+
+  private Stream<DocumentDetailsObject> streamDocuments(PaginationMode paginationMode,
+      int pageSize, Function<Map<String, Object>, Response> pageRequest,
+      String requestDescription) {
+    DocumentPageIterator pageIterator = new DocumentPageIterator(
+        pageIndex -> getDocumentsPage(
+            pageRequest.apply(paginationMode.getQueryParams(pageIndex, pageSize)),
+            requestDescription),
+        pageSize, pageRequestsExecutor);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pageIterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(pageIterator::close);
+  }
+
+  private static List<DocumentDetailsObject> getDocumentsPage(Response pageResponse,
+      String requestDescription) {
+    checkResponseStatusCodeIs200(pageResponse, requestDescription);
+    return DocumentsJsonUtil.readDocuments(pageResponse.asByteArray());
+  }
+
+  private static void checkResponseStatusCodeIs200(Response response, String requestDescription) {
+    if (response.getStatusCode() != HttpURLConnection.HTTP_OK) {
+      throw new UnexpectedResponseException(String.format(
+          "%s: unexpected response status code %s; %n Response message is: %s",
+          requestDescription, response.getStatusCode(), response.getBody().asPrettyString()));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.baks.service;
+
+import com.baks.pojo.response.DocumentDetailsObject;
+import java.util.List;
+
+/**
+ * Result of full scan of documents: documents without duplicates in the order of the documents
+ * list and documents count reported before and after the scan. Different counts mean documents were
+ * inserted or deleted while the scan was in progress.
+ */
+public final class DocumentsScanResult {
+
+  private final List<DocumentDetailsObject> documents;
+  private final int initialCount;
+  private final int finalCount;
+  private final int windowsCount;
+
+  DocumentsScanResult(List<DocumentDetailsObject> documents, int initialCount, int finalCount,
+      int windowsCount) {
+    this.documents = List.copyOf(documents);
+    this.initialCount = initialCount;
+    this.finalCount = finalCount;
+    this.windowsCount = windowsCount;
+  }
+
+  public List<DocumentDetailsObject> getDocuments() {
+    return documents;
+  }
+
+  public int getInitialCount() {
+    return initialCount;
+  }
+
+  public int getFinalCount() {
+    return finalCount;
+  }
+
+  /**
+   * Returns the number of offset/limit windows requested by the scan.
+   */
+  public int getWindowsCount() {
+    return windowsCount;
+  }
+
+  /**
+   * Checks whether documents count was changed while the scan was in progress.
+   */
+  public boolean isCountChanged() {
+    return initialCount != finalCount;
+  }
+}
@@ -1,37 +1,33 @@
 package com.baks.service;
 
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Component;
 
 /**
  * Helps to avoid double document usage during multiple thread test execution, i.e. there are cases
- * when 'update' and 'delete' operations were performed with the same document.
+ * when 'update' and 'delete' operations were performed with the same document. Documents are
+ * stored in concurrent set, so test classes can claim documents in parallel without locks.
  */
 @Component
 public class DocumentsUsageService {
 
-  private final Set<String> documentsIdInUse = new HashSet<>();
+  private final Set<String> documentsIdInUse = ConcurrentHashMap.newKeySet();
 
   /**
-   * Adds document id to list of documents in use.
+   * Atomically claims document for the test.
+   *
+   * @return true if document was not in use and now is claimed by the caller, false if it is
+   *     already in use by another test
    */
-  public void addDocumentIdToUsageList(String documentId) {
-    documentsIdInUse.add(documentId);
+  public boolean tryClaim(String documentId) {
+    return documentsIdInUse.add(documentId);
   }
 
   /**
-   * Adds documents id's to list of documents in use.
+   * Checks whether document is claimed by any test.
    */
-  public void addDocumentsIdToUsageList(List<String> documentIdList) {
-    documentsIdInUse.addAll(documentIdList);
-  }
-
-  /**
-   * Removes document id from list of documents in use.
-   */
-  public void removeUsedDocumentsFromList(List<String> documentsInTest) {
-    documentsInTest.removeIf(documentsIdInUse::contains);
+  public boolean isInUse(String documentId) {
+    return documentsIdInUse.contains(documentId);
   }
 }
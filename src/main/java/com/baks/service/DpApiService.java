@@ -14,10 +14,14 @@ import static org.apache.http.HttpHeaders.AUTHORIZATION;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 
 import com.baks.config.GatewayConfiguration;
+import com.baks.config.GatewayHttpClientFactory;
 import com.baks.constants.TestDataConstants;
+import com.baks.reporting.DocumentTransferMetricsFilter;
+import com.baks.reporting.LatencyStatisticsFilter;
+import com.baks.reporting.SampledAllureRestAssuredFilter;
 import com.baks.utils.TestDataUtil;
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.config.HeaderConfig;
 import io.restassured.config.LogConfig;
 import io.restassured.config.RestAssuredConfig;
@@ -25,6 +29,7 @@ import io.restassured.config.SSLConfig;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.config.JsonPathConfig;
 import io.restassured.specification.RequestSpecification;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -33,30 +38,50 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public abstract class DpApiService {
 
+  private static final RestAssuredConfig REST_ASSURED_CONFIG = RestAssuredConfig.newConfig()
+      .jsonConfig(jsonConfig()
+          .numberReturnType(JsonPathConfig.NumberReturnType.BIG_DECIMAL))
+      .sslConfig(new SSLConfig().allowAllHostnames().relaxedHTTPSValidation())
+      .logConfig(LogConfig.logConfig().blacklistHeader(AUTHORIZATION))
+      .headerConfig(HeaderConfig.headerConfig().overwriteHeadersWithName(
+          CONTENT_TYPE, ACCEPT, CORRELATION_ID_HEADER, DOCUMENT_CATEGORY_HEADER,
+          USER_ID_HEADER, DOCUMENT_TITLE_HEADER));
+
   @Autowired
   private GatewayConfiguration gatewayConfiguration;
   @Autowired
   private AuthorizationService authorizationService;
+  @Autowired
+  private GatewayHttpClientFactory gatewayHttpClientFactory;
+  @Autowired
+  private SampledAllureRestAssuredFilter allureRestAssuredFilter;
+  @Autowired
+  private LatencyStatisticsFilter latencyStatisticsFilter;
+  @Autowired
+  private DocumentTransferMetricsFilter documentTransferMetricsFilter;
+  private RequestSpecification baseDpSpecification;
 
-  private RestAssuredConfig getRestAssuredConfig() {
-    return RestAssuredConfig.newConfig()
-        .jsonConfig(jsonConfig()
-            .numberReturnType(JsonPathConfig.NumberReturnType.BIG_DECIMAL))
-        .sslConfig(new SSLConfig().allowAllHostnames().relaxedHTTPSValidation())
-        .logConfig(LogConfig.logConfig().blacklistHeader(AUTHORIZATION))
-        .headerConfig(HeaderConfig.headerConfig().overwriteHeadersWithName(
-            CONTENT_TYPE, ACCEPT, CORRELATION_ID_HEADER, DOCUMENT_CATEGORY_HEADER,
-            USER_ID_HEADER, DOCUMENT_TITLE_HEADER));
+  /*
+  Base specification is immutable and built once per gateway configuration,
+  per request specifications are derived from it by RestAssured.given(baseDpSpecification).
+  All requests share pooled keep-alive connections of the gateway HTTP client.
+   */
+  @PostConstruct
+  void initBaseDpSpecification() {
+    baseDpSpecification = new RequestSpecBuilder()
+        .setBaseUri(gatewayConfiguration.getHost())
+        .setBasePath(gatewayConfiguration.getPath())
+        .setContentType(ContentType.JSON)
+        .setConfig(REST_ASSURED_CONFIG.httpClient(gatewayHttpClientFactory.getHttpClientConfig()))
+        .setRelaxedHTTPSValidation()
+        .addFilter(allureRestAssuredFilter)
+        .addFilter(latencyStatisticsFilter)
+        .addFilter(documentTransferMetricsFilter)
+        .build();
   }
 
   private RequestSpecification getBaseDpSpecification() {
-    return RestAssured.given()
-        .baseUri(gatewayConfiguration.getHost())
-        .basePath(gatewayConfiguration.getPath())
-        .contentType(ContentType.JSON)
-        .config(getRestAssuredConfig())
-        .relaxedHTTPSValidation()
-        .filters(new AllureRestAssured());
+    return baseDpSpecification;
   }
 
   /**
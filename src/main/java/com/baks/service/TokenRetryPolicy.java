@@ -0,0 +1,169 @@
+package com.baks.service;
+
+import com.baks.config.TokenRetryConfiguration;
+import com.baks.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retry policy shared by all access token callers: exponential backoff with full jitter limited by
+ * configured cap, and circuit breaker. After configured quantity of consecutive failed attempts the
+ * circuit is opened and callers fail fast until open state interval is passed.
+ */
+@Component
+public class TokenRetryPolicy {
+
+  Logger log = LoggerFactory.getLogger(TokenRetryPolicy.class);
+  private final TokenRetryConfiguration retryConfiguration;
+  private final Counter retriesCounter;
+  private final Counter circuitOpenedCounter;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long circuitOpenUntilMillis;
+
+  @Autowired
+  public TokenRetryPolicy(TokenRetryConfiguration retryConfiguration,
+      MeterRegistry meterRegistry) {
+    this.retryConfiguration = retryConfiguration;
+    this.retriesCounter = meterRegistry.counter("dp.token.retries");
+    this.circuitOpenedCounter = meterRegistry.counter("dp.token.circuit.opened");
+  }
+
+  /**
+   * Performs action until its result is successful or configured attempts are exhausted, waiting
+   * for backoff delay between attempts. Is used on request path, where only one caller performs
+   * the action at a time.
+   *
+   * @param action       action to perform, i.e. access token request
+   * @param isSuccessful checks whether action result is successful
+   * @return result of the last performed attempt
+   * @throws ServiceUnavailableException if circuit is open or every attempt failed with exception
+   */
+  public <T> T execute(Supplier<T> action, Predicate<T> isSuccessful) {
+    return execute(action, isSuccessful, retryConfiguration.getMaxAttempts());
+  }
+
+  /**
+   * Performs action until its result is successful or specified attempts are exhausted. Background
+   * callers use single attempt and schedule the next one using {@link #getNextAttemptDelay()}
+   * instead of waiting.
+   *
+   * @param maxAttempts maximum quantity of attempts
+   * @return result of the last performed attempt
+   * @throws ServiceUnavailableException if circuit is open or every attempt failed with exception
+   */
+  public <T> T execute(Supplier<T> action, Predicate<T> isSuccessful, int maxAttempts) {
+    checkCallPermitted();
+    T result = null;
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      result = performAttempt(action, isSuccessful);
+      if (result != null && isSuccessful.test(result)) {
+        return result;
+      }
+      if (attempt == maxAttempts || isCircuitOpen()) {
+        break;
+      }
+      Duration backoffDelay = getBackoffDelay(attempt);
+      log.warn("Attempt #{} is not successful, next try in {} ms",
+          attempt, backoffDelay.toMillis());
+      if (!sleep(backoffDelay)) {
+        break;
+      }
+      retriesCounter.increment();
+    }
+    if (result == null) {
+      throw new ServiceUnavailableException(String.format(
+          "Access token request failed, consecutive failures: %s", consecutiveFailures.get()));
+    }
+    return result;
+  }
+
+  /**
+   * Returns delay before the next attempt: remaining open state interval if circuit is open,
+   * otherwise backoff delay for current quantity of consecutive failures.
+   */
+  public Duration getNextAttemptDelay() {
+    long openStateLeftMillis = circuitOpenUntilMillis - System.currentTimeMillis();
+    if (openStateLeftMillis > 0) {
+      return Duration.ofMillis(openStateLeftMillis);
+    }
+    return getBackoffDelay(Math.max(consecutiveFailures.get(), 1));
+  }
+
+  /**
+   * Returns random delay between zero and exponentially growing backoff limited by configured cap.
+   *
+   * @param attempt number of failed attempt, starting from 1
+   */
+  public Duration getBackoffDelay(int attempt) {
+    long exponentialBackoff = retryConfiguration.getInitialBackoffMillis()
+        << Math.min(attempt - 1, 30);
+    long cappedBackoff = Math.min(retryConfiguration.getMaxBackoffMillis(), exponentialBackoff);
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedBackoff + 1));
+  }
+
+  public boolean isCircuitOpen() {
+    return System.currentTimeMillis() < circuitOpenUntilMillis;
+  }
+
+  /**
+   * Throws exception without performing the action if circuit is open.
+   */
+  public void checkCallPermitted() {
+    if (isCircuitOpen()) {
+      throw new ServiceUnavailableException(String.format(
+          "Access token requests are suspended after %s consecutive failures; retry in %s ms",
+          consecutiveFailures.get(), circuitOpenUntilMillis - System.currentTimeMillis()));
+    }
+  }
+
+  private <T> T performAttempt(Supplier<T> action, Predicate<T> isSuccessful) {
+    try {
+      T result = action.get();
+      if (isSuccessful.test(result)) {
+        recordSuccess();
+      } else {
+        recordFailure();
+      }
+      return result;
+    } catch (RuntimeException e) {
+      log.warn("Attempt failed with exception: {}", e.getMessage());
+      recordFailure();
+      return null;
+    }
+  }
+
+  private void recordSuccess() {
+    consecutiveFailures.set(0);
+    circuitOpenUntilMillis = 0;
+  }
+
+  private void recordFailure() {
+    if (consecutiveFailures.incrementAndGet() >= retryConfiguration.getFailureThreshold()) {
+      circuitOpenUntilMillis = System.currentTimeMillis()
+          + Duration.ofSeconds(retryConfiguration.getOpenStateSeconds()).toMillis();
+      circuitOpenedCounter.increment();
+      log.warn("Circuit is opened for {} sec. after {} consecutive failures",
+          retryConfiguration.getOpenStateSeconds(), consecutiveFailures.get());
+    }
+  }
+
+  private boolean sleep(Duration delay) {
+    try {
+      Thread.sleep(delay.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      log.warn(e.getMessage());
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.baks.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream of uploaded document content which counts bytes read by HTTP client, so the size of
+ * content sent with chunked transfer encoding is known after the request.
+ */
+public final class UploadContentInputStream extends FilterInputStream {
+
+  private long bytesRead;
+
+  UploadContentInputStream(InputStream content) {
+    super(content);
+  }
+
+  @Override
+  public int read() throws IOException {
+    int value = super.read();
+    if (value != -1) {
+      bytesRead++;
+    }
+    return value;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    int read = super.read(buffer, offset, length);
+    if (read > 0) {
+      bytesRead += read;
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long count) throws IOException {
+    long skipped = super.skip(count);
+    bytesRead += skipped;
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  /**
+   * Returns the number of bytes read from the stream so far.
+   */
+  public long getBytesRead() {
+    return bytesRead;
+  }
+}
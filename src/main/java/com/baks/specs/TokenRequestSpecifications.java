@@ -1,15 +1,18 @@
 package com.baks.specs;
 
+import static com.baks.constants.ApiRequestsConstants.EXPIRES_IN;
 import static com.baks.constants.ApiRequestsConstants.GRANT_TYPE;
 import static com.baks.constants.ApiRequestsConstants.PASSWORD;
 import static com.baks.constants.ApiRequestsConstants.SCOPE;
 import static com.baks.constants.ApiRequestsConstants.USERNAME;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 
+import com.baks.config.GatewayHttpClientFactory;
 import com.baks.config.IdentityConfiguration;
 import io.restassured.authentication.AuthenticationScheme;
 import io.restassured.authentication.PreemptiveBasicAuthScheme;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import java.nio.charset.StandardCharsets;
@@ -22,12 +25,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class TokenRequestSpecifications {
 
-  private static final String EXPIRES_IN = "expires_in";
   protected final IdentityConfiguration identityConfiguration;
+  protected final GatewayHttpClientFactory gatewayHttpClientFactory;
 
   @Autowired
-  public TokenRequestSpecifications(IdentityConfiguration identityConfiguration) {
+  public TokenRequestSpecifications(IdentityConfiguration identityConfiguration,
+      GatewayHttpClientFactory gatewayHttpClientFactory) {
     this.identityConfiguration = identityConfiguration;
+    this.gatewayHttpClientFactory = gatewayHttpClientFactory;
   }
 
   /**
@@ -53,6 +58,8 @@ public class TokenRequestSpecifications {
         .addFormParam(EXPIRES_IN, identityConfiguration.getFormParams().get(EXPIRES_IN))
         .setAuth(auth)
         .setBasePath(identityConfiguration.getPath())
+        .setConfig(RestAssuredConfig.config()
+            .httpClient(gatewayHttpClientFactory.getHttpClientConfig()))
         .build();
   }
 }
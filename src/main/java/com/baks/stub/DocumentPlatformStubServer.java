@@ -0,0 +1,310 @@
+package com.baks.stub;
+
+import static com.baks.constants.ApiEndpointsConstants.DELETED_DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_COUNT_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_FILTERED_LIST_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENTS_URI;
+import static com.baks.constants.ApiEndpointsConstants.DOCUMENT_CATEGORIES_URI;
+import static com.baks.constants.ApiEndpointsConstants.HARD_DELETE_BY_DOCUMENT_ID_URI;
+import static com.baks.constants.ApiEndpointsConstants.MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.RECOVER_MULTIPLE_URI;
+import static com.baks.constants.ApiEndpointsConstants.REGISTER_USER_URI;
+import static com.baks.constants.ApiRequestsConstants.CORRELATION_ID_HEADER;
+import static com.baks.constants.ApiRequestsConstants.EXPIRES_AT_HEADER;
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_HEADER;
+import static com.baks.constants.ApiRequestsConstants.USER_ID_HEADER;
+
+import com.baks.config.GatewayConfiguration;
+import com.baks.config.IdentityConfiguration;
+import com.baks.config.StubServerConfiguration;
+import com.baks.utils.ConcurrencyUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local in-process stand-in for Document Platform gateway and identity service, which is started
+ * with "stub" Spring profile. State is kept in memory, every response is delayed by configured
+ * latency. Is used to run load and performance checks of the client stack without live
+ * environment.
+ */
+@Component
+@Profile("stub")
+public class DocumentPlatformStubServer {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final String DOCUMENTS_PATH_PREFIX = DOCUMENTS_URI + "/";
+  private static final String DOCUMENT_CATEGORIES_PATH_PREFIX = DOCUMENT_CATEGORIES_URI + "/";
+
+  Logger log = LoggerFactory.getLogger(DocumentPlatformStubServer.class);
+  private final StubServerConfiguration stubConfiguration;
+  private final GatewayConfiguration gatewayConfiguration;
+  private final IdentityConfiguration identityConfiguration;
+  private final StubDocumentStore documentStore = new StubDocumentStore();
+  private final Set<String> issuedTokens = ConcurrentHashMap.newKeySet();
+  private final ExecutorService requestsExecutor =
+      ConcurrencyUtil.newUnboundedTaskExecutor("stub-server");
+  private HttpServer httpServer;
+
+  @Autowired
+  public DocumentPlatformStubServer(StubServerConfiguration stubConfiguration,
+      GatewayConfiguration gatewayConfiguration, IdentityConfiguration identityConfiguration) {
+    this.stubConfiguration = stubConfiguration;
+    this.gatewayConfiguration = gatewayConfiguration;
+    this.identityConfiguration = identityConfiguration;
+  }
+
+  @PostConstruct
+  void start() throws IOException {
+    httpServer = HttpServer.create(new InetSocketAddress(stubConfiguration.getPort()), 0);
+    httpServer.createContext(identityConfiguration.getPath(), this::handleTokenRequest);
+    httpServer.createContext(gatewayConfiguration.getPath(), this::handleGatewayRequest);
+    httpServer.setExecutor(requestsExecutor);
+    httpServer.start();
+    log.info("Document Platform stub server is started on port {}", stubConfiguration.getPort());
+  }
+
+  @PreDestroy
+  void stop() {
+    httpServer.stop(0);
+    requestsExecutor.shutdownNow();
+  }
+
+  private void handleTokenRequest(HttpExchange exchange) throws IOException {
+    StubResponse response;
+    if (!"POST".equals(exchange.getRequestMethod())) {
+      response = StubResponse.empty(HttpURLConnection.HTTP_BAD_METHOD);
+    } else if (StringUtils.isEmpty(exchange.getRequestHeaders().getFirst("Authorization"))) {
+      response = StubResponse.error(HttpURLConnection.HTTP_UNAUTHORIZED, "Unauthorized");
+    } else {
+      String accessToken = UUID.randomUUID().toString();
+      issuedTokens.add(accessToken);
+      response = StubResponse.json(HttpURLConnection.HTTP_OK, Map.of(
+          "access_token", accessToken,
+          "token_type", "Bearer",
+          "expires_in", stubConfiguration.getTokenLifetimeSeconds()));
+    }
+    send(exchange, response);
+  }
+
+  private void handleGatewayRequest(HttpExchange exchange) throws IOException {
+    StubResponse response;
+    try {
+      response = routeGatewayRequest(exchange);
+    } catch (RuntimeException e) {
+      log.warn("Stub server failed to handle request: {}", e.getMessage());
+      response = StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+    }
+    String correlationId = exchange.getRequestHeaders().getFirst(CORRELATION_ID_HEADER);
+    if (correlationId != null) {
+      response.withHeader(CORRELATION_ID_HEADER, correlationId);
+    }
+    send(exchange, response);
+  }
+
+  private StubResponse routeGatewayRequest(HttpExchange exchange) throws IOException {
+    Map<String, String> headers = getLowerCaseHeaders(exchange);
+    String authorization = headers.getOrDefault("authorization", "");
+    if (!issuedTokens.contains(StringUtils.removeStartIgnoreCase(authorization, "Bearer "))) {
+      return StubResponse.error(HttpURLConnection.HTTP_UNAUTHORIZED, "Unauthorized");
+    }
+    String userId = headers.get(USER_ID_HEADER.toLowerCase(Locale.ROOT));
+    if (!isUuid(userId)) {
+      return StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST, "User id is not valid");
+    }
+    String method = exchange.getRequestMethod();
+    String path = StringUtils.removeStart(exchange.getRequestURI().getPath(),
+        gatewayConfiguration.getPath());
+    Map<String, String> queryParams = getQueryParams(exchange.getRequestURI().getRawQuery());
+    String downloadUrlTemplate = "http://localhost:" + stubConfiguration.getPort()
+        + gatewayConfiguration.getPath() + "documents/%s/download";
+    InputStream body = exchange.getRequestBody();
+
+    switch (method + " " + path) {
+      case "POST " + REGISTER_USER_URI:
+        return documentStore.registerUser(userId);
+      case "GET " + DOCUMENT_CATEGORIES_URI:
+        return documentStore.getDocumentCategories(userId);
+      case "POST " + DOCUMENTS_URI:
+        return documentStore.uploadDocument(userId, headers, readFile(body));
+      case "POST " + DOCUMENTS_FILTERED_LIST_URI:
+        return documentStore.filterDocuments(readJsonObject(body), queryParams, false,
+            downloadUrlTemplate);
+      case "POST " + DELETED_DOCUMENTS_FILTERED_LIST_URI:
+        return documentStore.filterDocuments(readJsonObject(body), queryParams, true,
+            downloadUrlTemplate);
+      case "POST " + DOCUMENTS_COUNT_URI:
+        return documentStore.countDocuments(readJsonObject(body));
+      case "DELETE " + MULTIPLE_URI:
+        return documentStore.deleteMultipleDocuments(userId, readJsonArray(body));
+      case "DELETE " + HARD_DELETE_BY_DOCUMENT_ID_URI:
+        return documentStore.hardDeleteDocuments(readJsonArray(body));
+      case "PUT " + RECOVER_MULTIPLE_URI:
+        return documentStore.recoverMultipleDocuments(userId, readJsonArray(body));
+      default:
+        break;
+    }
+    if (path.startsWith(DOCUMENT_CATEGORIES_PATH_PREFIX) && "GET".equals(method)) {
+      return documentStore.getDocumentCategory(
+          path.substring(DOCUMENT_CATEGORIES_PATH_PREFIX.length()));
+    }
+    if (path.startsWith(DOCUMENTS_PATH_PREFIX)) {
+      String[] documentPath = path.substring(DOCUMENTS_PATH_PREFIX.length()).split("/", 2);
+      String documentId = documentPath[0];
+      String action = documentPath.length > 1 ? documentPath[1] : "";
+      switch (method + " " + action) {
+        case "GET ":
+          return documentStore.getDocumentDetails(documentId,
+              String.format(downloadUrlTemplate, documentId));
+        case "PUT ":
+          return documentStore.updateDocumentFile(userId, documentId, headers, readFile(body));
+        case "DELETE ":
+          return documentStore.deleteDocument(userId, documentId);
+        case "PUT recover":
+          return documentStore.recoverDocument(userId, documentId);
+        case "GET download":
+          return documentStore.downloadDocument(documentId);
+        case "PUT lock-status":
+          return documentStore.updateLockStatus(userId, documentId,
+              headers.get(LOCK_STATUS_HEADER.toLowerCase(Locale.ROOT)));
+        case "PUT expires-at":
+          return documentStore.updateExpirationDate(userId, documentId,
+              headers.get(EXPIRES_AT_HEADER.toLowerCase(Locale.ROOT)));
+        case "PUT metadata":
+          return documentStore.updateMetadata(userId, documentId, headers, true);
+        case "PATCH metadata":
+          return documentStore.updateMetadata(userId, documentId, headers, false);
+        default:
+          break;
+      }
+    }
+    return StubResponse.error(HttpURLConnection.HTTP_NOT_FOUND, "Endpoint not found: " + path);
+  }
+
+  private void send(HttpExchange exchange, StubResponse response) throws IOException {
+    simulateLatency();
+    response.getHeaders().forEach(exchange.getResponseHeaders()::set);
+    long bodyLength = response.getBodyLength();
+    exchange.sendResponseHeaders(response.getStatusCode(), bodyLength == 0 ? -1 : bodyLength);
+    if (bodyLength > 0) {
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        response.writeBody(responseBody);
+      }
+    }
+    exchange.close();
+  }
+
+  private void simulateLatency() {
+    long latency = stubConfiguration.getLatencyMillis();
+    if (stubConfiguration.getLatencyJitterMillis() > 0) {
+      latency += ThreadLocalRandom.current().nextLong(stubConfiguration.getLatencyJitterMillis());
+    }
+    if (latency <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(latency);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Map<String, String> getLowerCaseHeaders(HttpExchange exchange) {
+    Map<String, String> headers = new HashMap<>();
+    exchange.getRequestHeaders().forEach((name, values) -> {
+      if (!values.isEmpty()) {
+        headers.put(name.toLowerCase(Locale.ROOT), values.get(0));
+      }
+    });
+    return headers;
+  }
+
+  private static Map<String, String> getQueryParams(String rawQuery) {
+    Map<String, String> queryParams = new HashMap<>();
+    if (StringUtils.isEmpty(rawQuery)) {
+      return queryParams;
+    }
+    for (String param : rawQuery.split("&")) {
+      String[] nameAndValue = param.split("=", 2);
+      queryParams.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8),
+          nameAndValue.length > 1
+              ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8) : "");
+    }
+    return queryParams;
+  }
+
+  /*
+  Document files are streamed, so uploads of any size don't need memory for the whole file.
+   */
+  private StubFile readFile(InputStream requestBody) throws IOException {
+    try (requestBody) {
+      return StubFile.read(requestBody, stubConfiguration.getMaxStoredContentBytes());
+    }
+  }
+
+  private static Map<String, Object> readJsonObject(InputStream requestBody) throws IOException {
+    byte[] body = readBody(requestBody);
+    if (body.length == 0) {
+      return Map.of();
+    }
+    try {
+      return objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static List<String> readJsonArray(InputStream requestBody) throws IOException {
+    byte[] body = readBody(requestBody);
+    if (body.length == 0) {
+      return List.of();
+    }
+    try {
+      return objectMapper.readValue(body, new TypeReference<List<String>>() {
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] readBody(InputStream requestBody) throws IOException {
+    try (requestBody) {
+      return requestBody.readAllBytes();
+    }
+  }
+
+  private static boolean isUuid(String value) {
+    try {
+      return value != null && UUID.fromString(value).toString().equalsIgnoreCase(value);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.baks.stub;
+
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_ACTIVE_VALUE;
+import static com.baks.constants.TestDataConstants.ANTIVIRUS_SCAN_STATUS_OK;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Document stored by the stub server. State is changed under the document monitor.
+ */
+final class StubDocument {
+
+  private final String documentId;
+  private final String createdAt;
+  private final String createdBy;
+  private final String documentCategoryCode;
+  private String documentTitle;
+  private String fileName;
+  private String contentType;
+  private String lockStatus = LOCK_STATUS_ACTIVE_VALUE;
+  private String expiresAt;
+  private String updatedAt;
+  private String updatedBy;
+  private StubFile file;
+  private boolean deleted;
+  private final Map<String, String> metadata = new LinkedHashMap<>();
+
+  StubDocument(String documentId, String documentCategoryCode, String userId) {
+    this.documentId = documentId;
+    this.documentCategoryCode = documentCategoryCode;
+    this.createdBy = userId;
+    this.createdAt = now();
+    this.updatedBy = userId;
+    this.updatedAt = createdAt;
+  }
+
+  String getDocumentId() {
+    return documentId;
+  }
+
+  synchronized String getLockStatus() {
+    return lockStatus;
+  }
+
+  synchronized boolean isDeleted() {
+    return deleted;
+  }
+
+  synchronized String getContentType() {
+    return contentType;
+  }
+
+  synchronized String getFileName() {
+    return fileName;
+  }
+
+  synchronized StubFile getFile() {
+    return file;
+  }
+
+  synchronized void setFile(StubFile file, String contentType, String fileName) {
+    this.file = file;
+    this.contentType = contentType;
+    this.fileName = fileName;
+  }
+
+  synchronized void setDocumentTitle(String documentTitle) {
+    this.documentTitle = documentTitle;
+  }
+
+  synchronized void setLockStatus(String lockStatus) {
+    this.lockStatus = lockStatus;
+  }
+
+  synchronized void setExpiresAt(String expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  synchronized void setDeleted(boolean deleted) {
+    this.deleted = deleted;
+  }
+
+  synchronized void replaceMetadata(Map<String, String> newMetadata) {
+    metadata.clear();
+    metadata.putAll(newMetadata);
+  }
+
+  synchronized void updateMetadata(Map<String, String> newMetadata) {
+    metadata.putAll(newMetadata);
+  }
+
+  synchronized void touch(String userId) {
+    updatedBy = userId;
+    updatedAt = now();
+  }
+
+  /**
+   * Returns document details in the same format as Document Platform.
+   */
+  synchronized Map<String, Object> toDetails(String downloadUrl) {
+    Map<String, Object> details = new LinkedHashMap<>();
+    details.put("documentId", documentId);
+    details.put("createdAt", createdAt);
+    details.put("updatedAt", updatedAt);
+    details.put("createdBy", createdBy);
+    details.put("updatedBy", updatedBy);
+    details.put("documentCategoryCode", documentCategoryCode);
+    details.put("documentTitle", documentTitle);
+    details.put("lockStatus", lockStatus);
+    details.put("fileName", fileName);
+    details.put("contentType", contentType);
+    details.put("pageCount", 1);
+    details.put("size", file.getSize());
+    details.put("md5", file.getMd5());
+    details.put("crc32", file.getCrc32());
+    details.put("deleted", deleted);
+    details.put("downloadUrl", downloadUrl);
+    details.put("uploadedAt", createdAt);
+    details.put("expiresAt", expiresAt);
+    details.put("scanStatus", ANTIVIRUS_SCAN_STATUS_OK);
+    details.put("available", true);
+    details.put("metadata", new LinkedHashMap<>(metadata));
+    return details;
+  }
+
+  private static String now() {
+    return OffsetDateTime.now(ZoneOffset.UTC).toString();
+  }
+}
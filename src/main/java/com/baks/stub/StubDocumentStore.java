@@ -0,0 +1,306 @@
+package com.baks.stub;
+
+import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_KEY;
+import static com.baks.constants.TestDataConstants.SYSTEM_DOCUMENT_TYPE_NAME;
+import static com.baks.constants.TestDataConstants.TEST_DOCUMENT_CATEGORY_CODE;
+
+import com.baks.constants.ConfigurationConstants;
+import com.baks.enums.MetadataType;
+import java.net.HttpURLConnection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory state of the stub server: registered users, document category and documents.
+ */
+final class StubDocumentStore {
+
+  private static final int HTTP_MULTI_STATUS = 207;
+
+  private final String testCategoryId = UUID.randomUUID().toString();
+  private final Set<String> registeredUsers = ConcurrentHashMap.newKeySet();
+  private final Map<String, StubDocument> documents = new ConcurrentHashMap<>();
+
+  //------------------------Users and document categories------------------------
+
+  StubResponse registerUser(String userId) {
+    registeredUsers.add(userId);
+    return StubResponse.empty(HttpURLConnection.HTTP_CREATED);
+  }
+
+  StubResponse getDocumentCategories(String userId) {
+    List<Map<String, Object>> categories = registeredUsers.contains(userId)
+        ? List.of(getTestCategory()) : List.of();
+    return StubResponse.json(HttpURLConnection.HTTP_OK, Map.of("documentCategories", categories));
+  }
+
+  StubResponse getDocumentCategory(String categoryId) {
+    if (!testCategoryId.equals(categoryId)) {
+      return StubResponse.error(HttpURLConnection.HTTP_NOT_FOUND, "Document category not found");
+    }
+    return StubResponse.json(HttpURLConnection.HTTP_OK, getTestCategory());
+  }
+
+  private Map<String, Object> getTestCategory() {
+    Map<String, Object> category = new LinkedHashMap<>();
+    category.put("categoryId", testCategoryId);
+    category.put("categoryName", TEST_DOCUMENT_CATEGORY_CODE);
+    category.put("categoryCode", TEST_DOCUMENT_CATEGORY_CODE);
+    category.put("categoryDescription", "Stub document category");
+    category.put("sdtName", SYSTEM_DOCUMENT_TYPE_NAME);
+    category.put("countryCode", "NL");
+    category.put("retentionPeriod", 0);
+    category.put("deleted", false);
+    category.put("metadata", List.of(
+        getMetadata("stubreference", MetadataType.STRING, true),
+        getMetadata("stubdate", MetadataType.DATE, false),
+        getMetadata("stubnumber", MetadataType.INTEGER, false)));
+    return category;
+  }
+
+  private static Map<String, Object> getMetadata(String key, MetadataType type,
+      boolean required) {
+    return Map.of("key", key, "name", key, "type", type.getSystemValue(), "required", required);
+  }
+
+  //------------------------Documents------------------------
+
+  StubResponse uploadDocument(String userId, Map<String, String> headers, StubFile file) {
+    StubResponse validationError = validateDocumentFile(headers, file);
+    if (validationError != null) {
+      return validationError;
+    }
+    String documentId = UUID.randomUUID().toString();
+    StubDocument document = new StubDocument(documentId, TEST_DOCUMENT_CATEGORY_CODE, userId);
+    applyDocumentFile(document, headers, file);
+    document.replaceMetadata(extractMetadata(headers));
+    documents.put(documentId, document);
+    return StubResponse.json(HttpURLConnection.HTTP_CREATED, Map.of(
+        "documentId", documentId,
+        "detailsUri", "documents/" + documentId,
+        "downloadUri", "documents/" + documentId + "/download"));
+  }
+
+  StubResponse updateDocumentFile(String userId, String documentId, Map<String, String> headers,
+      StubFile file) {
+    StubDocument document = documents.get(documentId);
+    if (document == null || document.isDeleted()) {
+      return documentNotFound();
+    }
+    StubResponse validationError = validateDocumentFile(headers, file);
+    if (validationError != null) {
+      return validationError;
+    }
+    applyDocumentFile(document, headers, file);
+    document.updateMetadata(extractMetadata(headers));
+    document.touch(userId);
+    return StubResponse.empty(HttpURLConnection.HTTP_NO_CONTENT);
+  }
+
+  StubResponse getDocumentDetails(String documentId, String downloadUrl) {
+    StubDocument document = documents.get(documentId);
+    if (document == null) {
+      return documentNotFound();
+    }
+    return StubResponse.json(HttpURLConnection.HTTP_OK, document.toDetails(downloadUrl));
+  }
+
+  StubResponse downloadDocument(String documentId) {
+    StubDocument document = documents.get(documentId);
+    if (document == null || document.isDeleted()) {
+      return documentNotFound();
+    }
+    return StubResponse.file(document.getFile(), document.getContentType())
+        .withHeader("Content-Disposition", "attachment; filename=" + document.getFileName());
+  }
+
+  StubResponse deleteDocument(String userId, String documentId) {
+    StubDocument document = documents.get(documentId);
+    if (document == null || document.isDeleted()) {
+      return documentNotFound();
+    }
+    document.setDeleted(true);
+    document.touch(userId);
+    return StubResponse.empty(HttpURLConnection.HTTP_NO_CONTENT);
+  }
+
+  StubResponse recoverDocument(String userId, String documentId) {
+    StubDocument document = documents.get(documentId);
+    if (document == null || !document.isDeleted()) {
+      return documentNotFound();
+    }
+    document.setDeleted(false);
+    document.touch(userId);
+    return StubResponse.json(HttpURLConnection.HTTP_OK, Map.of("documentId", documentId));
+  }
+
+  StubResponse deleteMultipleDocuments(String userId, List<String> documentIds) {
+    List<String> deletedIds = documentIds.stream()
+        .filter(documentId -> deleteDocument(userId, documentId).getStatusCode()
+            == HttpURLConnection.HTTP_NO_CONTENT)
+        .collect(Collectors.toList());
+    return deletedIds.size() == documentIds.size()
+        ? StubResponse.empty(HttpURLConnection.HTTP_NO_CONTENT)
+        : StubResponse.json(HTTP_MULTI_STATUS, Map.of("documentIds", deletedIds));
+  }
+
+  StubResponse recoverMultipleDocuments(String userId, List<String> documentIds) {
+    List<String> recoveredIds = documentIds.stream()
+        .filter(documentId -> recoverDocument(userId, documentId).getStatusCode()
+            == HttpURLConnection.HTTP_OK)
+        .collect(Collectors.toList());
+    return StubResponse.json(
+        recoveredIds.size() == documentIds.size() ? HttpURLConnection.HTTP_OK : HTTP_MULTI_STATUS,
+        Map.of("documentIds", recoveredIds));
+  }
+
+  StubResponse hardDeleteDocuments(List<String> documentIds) {
+    List<String> deletedIds = documentIds.stream()
+        .filter(documentId -> documents.remove(documentId) != null)
+        .collect(Collectors.toList());
+    return deletedIds.size() == documentIds.size()
+        ? StubResponse.empty(HttpURLConnection.HTTP_NO_CONTENT)
+        : StubResponse.json(HTTP_MULTI_STATUS, Map.of("documentIds", deletedIds));
+  }
+
+  StubResponse updateLockStatus(String userId, String documentId, String lockStatus) {
+    return updateNotDeletedDocument(userId, documentId, HttpURLConnection.HTTP_OK,
+        document -> document.setLockStatus(lockStatus));
+  }
+
+  StubResponse updateExpirationDate(String userId, String documentId, String expiresAt) {
+    return updateNotDeletedDocument(userId, documentId, HttpURLConnection.HTTP_OK,
+        document -> document.setExpiresAt(expiresAt));
+  }
+
+  StubResponse updateMetadata(String userId, String documentId, Map<String, String> headers,
+      boolean replace) {
+    Map<String, String> metadata = extractMetadata(headers);
+    if (metadata.isEmpty()) {
+      return StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST, "Metadata is not specified");
+    }
+    return updateNotDeletedDocument(userId, documentId, HttpURLConnection.HTTP_NO_CONTENT,
+        document -> {
+          if (replace) {
+            document.replaceMetadata(metadata);
+          } else {
+            document.updateMetadata(metadata);
+          }
+        });
+  }
+
+  //------------------------Filter documents------------------------
+
+  StubResponse filterDocuments(Map<String, Object> filter, Map<String, String> queryParams,
+      boolean deleted, String downloadUrlTemplate) {
+    List<StubDocument> filteredDocuments = getFilteredDocuments(filter, deleted);
+    int pageSize = Math.min(getIntParam(queryParams, "per_page",
+            ConfigurationConstants.PAGE_SIZE_DEFAULT_VALUE),
+        ConfigurationConstants.PAGE_SIZE_MAX_VALUE);
+    int offset = (getIntParam(queryParams, "page", 1) - 1) * pageSize;
+    if (queryParams.containsKey("offset") || queryParams.containsKey("limit")) {
+      offset = getIntParam(queryParams, "offset", 0);
+      pageSize = Math.min(getIntParam(queryParams, "limit", pageSize),
+          ConfigurationConstants.PAGE_SIZE_MAX_VALUE);
+    }
+    if (offset < 0 || pageSize < 1) {
+      return StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST, "Invalid page parameters");
+    }
+    List<Map<String, Object>> page = filteredDocuments.stream()
+        .skip(offset)
+        .limit(pageSize)
+        .map(document -> document.toDetails(
+            String.format(downloadUrlTemplate, document.getDocumentId())))
+        .collect(Collectors.toList());
+    return StubResponse.json(HttpURLConnection.HTTP_OK, Map.of("documents", page));
+  }
+
+  StubResponse countDocuments(Map<String, Object> filter) {
+    return StubResponse.json(HttpURLConnection.HTTP_OK,
+        Map.of("count", getFilteredDocuments(filter, false).size()));
+  }
+
+  private List<StubDocument> getFilteredDocuments(Map<String, Object> filter, boolean deleted) {
+    Predicate<StubDocument> documentFilter = document -> document.isDeleted() == deleted;
+    Object lockStatus = filter.get(LOCK_STATUS_KEY);
+    if (lockStatus != null) {
+      documentFilter = documentFilter.and(
+          document -> lockStatus.toString().equalsIgnoreCase(document.getLockStatus()));
+    }
+    return documents.values().stream()
+        .filter(documentFilter)
+        .sorted(Comparator.comparing(StubDocument::getDocumentId))
+        .collect(Collectors.toList());
+  }
+
+  //------------------------Helpers------------------------
+
+  private StubResponse updateNotDeletedDocument(String userId, String documentId,
+      int successStatusCode, Consumer<StubDocument> update) {
+    StubDocument document = documents.get(documentId);
+    if (document == null || document.isDeleted()) {
+      return documentNotFound();
+    }
+    update.accept(document);
+    document.touch(userId);
+    return successStatusCode == HttpURLConnection.HTTP_NO_CONTENT
+        ? StubResponse.empty(successStatusCode)
+        : StubResponse.json(successStatusCode, Map.of("documentId", documentId));
+  }
+
+  private StubResponse validateDocumentFile(Map<String, String> headers, StubFile file) {
+    if (!testCategoryId.equals(headers.get("x-dm-document-category"))) {
+      return StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST,
+          "Document category is not specified or not found");
+    }
+    if (file.getSize() == 0) {
+      return StubResponse.error(HttpURLConnection.HTTP_BAD_REQUEST, "Document file is empty");
+    }
+    return null;
+  }
+
+  private void applyDocumentFile(StubDocument document, Map<String, String> headers,
+      StubFile file) {
+    String documentTitle = headers.getOrDefault("x-dm-document-title", "Document");
+    document.setFile(file, headers.get("content-type"), documentTitle);
+    document.setDocumentTitle(documentTitle);
+    if (headers.containsKey("x-dm-lock-status")) {
+      document.setLockStatus(headers.get("x-dm-lock-status"));
+    }
+    if (headers.containsKey("x-dm-expires-at")) {
+      document.setExpiresAt(headers.get("x-dm-expires-at"));
+    }
+  }
+
+  private static Map<String, String> extractMetadata(Map<String, String> headers) {
+    Map<String, String> metadata = new LinkedHashMap<>();
+    headers.forEach((name, value) -> {
+      if (name.startsWith("x-dm-meta-")) {
+        metadata.put(name.substring("x-dm-meta-".length()), value);
+      }
+    });
+    return metadata;
+  }
+
+  private static int getIntParam(Map<String, String> queryParams, String name,
+      int defaultValue) {
+    try {
+      return queryParams.containsKey(name) ? Integer.parseInt(queryParams.get(name))
+          : defaultValue;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static StubResponse documentNotFound() {
+    return StubResponse.error(HttpURLConnection.HTTP_NOT_FOUND, "Document not found");
+  }
+}
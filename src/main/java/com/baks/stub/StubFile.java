@@ -0,0 +1,75 @@
+package com.baks.stub;
+
+import com.baks.digest.DocumentDigest;
+import com.baks.digest.StreamingDigest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * File of the document stored by the stub server. Uploaded content is read in chunks and digests
+ * are updated on the fly, so the whole upload is never buffered. Content is kept in memory only if
+ * it is not bigger than the configured limit, otherwise only size and digests are kept and zero
+ * filled content of the same size is served on download.
+ */
+final class StubFile {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final byte[] content;
+  private final DocumentDigest digest;
+
+  private StubFile(byte[] content, DocumentDigest digest) {
+    this.content = content;
+    this.digest = digest;
+  }
+
+  /**
+   * Reads the stream till the end. The stream is not closed.
+   *
+   * @param maxStoredContentBytes max size of the content, which is kept in memory
+   */
+  static StubFile read(InputStream inputStream, long maxStoredContentBytes) throws IOException {
+    StreamingDigest streamingDigest = new StreamingDigest();
+    ByteArrayOutputStream storedContent = new ByteArrayOutputStream();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      streamingDigest.update(buffer, 0, read);
+      if (storedContent != null && streamingDigest.getSize() <= maxStoredContentBytes) {
+        storedContent.write(buffer, 0, read);
+      } else {
+        storedContent = null;
+      }
+    }
+    return new StubFile(storedContent == null ? null : storedContent.toByteArray(),
+        streamingDigest.finish());
+  }
+
+  long getSize() {
+    return digest.getSize();
+  }
+
+  String getMd5() {
+    return digest.getMd5();
+  }
+
+  String getCrc32() {
+    return digest.getCrc32();
+  }
+
+  /**
+   * Writes stored content or, if content was not stored, zero filled content of the same size.
+   */
+  void writeContent(OutputStream outputStream) throws IOException {
+    if (content != null) {
+      outputStream.write(content);
+      return;
+    }
+    byte[] filler = new byte[(int) Math.min(BUFFER_SIZE, getSize())];
+    for (long remaining = getSize(); remaining > 0; remaining -= filler.length) {
+      outputStream.write(filler, 0, (int) Math.min(filler.length, remaining));
+    }
+  }
+}
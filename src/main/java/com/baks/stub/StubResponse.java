@@ -0,0 +1,82 @@
+package com.baks.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Response of the stub server: status code, headers and body. Body is either serialized in memory
+ * or is written from the document file.
+ */
+final class StubResponse {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final byte[] EMPTY_BODY = new byte[0];
+
+  private final int statusCode;
+  private final Map<String, String> headers = new HashMap<>();
+  private final byte[] body;
+  private final StubFile file;
+
+  private StubResponse(int statusCode, byte[] body) {
+    this.statusCode = statusCode;
+    this.body = body;
+    this.file = null;
+  }
+
+  private StubResponse(int statusCode, StubFile file) {
+    this.statusCode = statusCode;
+    this.body = null;
+    this.file = file;
+  }
+
+  static StubResponse empty(int statusCode) {
+    return new StubResponse(statusCode, EMPTY_BODY);
+  }
+
+  static StubResponse json(int statusCode, Object body) {
+    try {
+      return new StubResponse(statusCode, objectMapper.writeValueAsBytes(body))
+          .withHeader("Content-Type", ContentType.JSON.toString());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize stub response: " + e.getMessage(), e);
+    }
+  }
+
+  static StubResponse error(int statusCode, String message) {
+    return json(statusCode, Map.of("errors", Map.of("message", message)));
+  }
+
+  static StubResponse file(StubFile file, String contentType) {
+    return new StubResponse(200, file).withHeader("Content-Type", contentType);
+  }
+
+  StubResponse withHeader(String name, String value) {
+    headers.put(name, value);
+    return this;
+  }
+
+  int getStatusCode() {
+    return statusCode;
+  }
+
+  Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  long getBodyLength() {
+    return file != null ? file.getSize() : body.length;
+  }
+
+  void writeBody(OutputStream outputStream) throws IOException {
+    if (file != null) {
+      file.writeContent(outputStream);
+    } else {
+      outputStream.write(body);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.baks.utils;
+
+import com.baks.constants.ConfigurationConstants;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for concurrent requests of the step layer. When "virtual.threads.enabled" system
+ * property is true and runtime supports virtual threads (Java 21+), each task is run on its own
+ * virtual thread, otherwise tasks are run on fixed pool of "threads.count" platform threads.
+ */
+public final class ConcurrencyUtil {
+
+  private ConcurrencyUtil() {
+  }
+
+  /**
+   * Checks whether virtual threads are requested and supported by current runtime.
+   */
+  public static boolean isVirtualThreadsEnabled() {
+    return Boolean.getBoolean(ConfigurationConstants.VIRTUAL_THREADS_ENABLED)
+        && Runtime.version().feature() >= 21;
+  }
+
+  /**
+   * Returns concurrency level used for platform threads executors.
+   */
+  public static int getThreadsCount() {
+    return Integer.getInteger(ConfigurationConstants.THREADS_COUNT,
+        ConfigurationConstants.THREADS_COUNT_DEFAULT_VALUE);
+  }
+
+  /**
+   * Creates executor for I/O bound tasks. Executor should be closed by the caller.
+   *
+   * @param threadNamePrefix prefix of platform threads names
+   * @return virtual thread per task executor or fixed platform threads pool
+   */
+  public static ExecutorService newTaskExecutor(String threadNamePrefix) {
+    if (isVirtualThreadsEnabled()) {
+      return newVirtualThreadPerTaskExecutor();
+    }
+    return Executors.newFixedThreadPool(getThreadsCount(), daemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * Creates executor without limit of threads: virtual thread per task executor or cached platform
+   * threads pool.
+   *
+   * @param threadNamePrefix prefix of platform threads names
+   */
+  public static ExecutorService newUnboundedTaskExecutor(String threadNamePrefix) {
+    if (isVirtualThreadsEnabled()) {
+      return newVirtualThreadPerTaskExecutor();
+    }
+    return Executors.newCachedThreadPool(daemonThreadFactory(threadNamePrefix));
+  }
+
+  /*
+  Project is compiled for Java 11, so Java 21 API is called by reflection.
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Virtual threads are not supported by current runtime: " + e.getMessage(), e);
+    }
+  }
+
+  private static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,121 @@
+package com.baks.utils;
+
+import com.baks.digest.DigestingReadableByteChannel;
+import com.baks.digest.DocumentDigest;
+import com.baks.digest.StreamingDigest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes content digests (size, MD5, CRC32 and SHA-256) of documents in a single sequential pass.
+ * Content is read through a per-thread reusable buffer, digests of files are cached until the file
+ * is modified.
+ */
+public final class DigestUtil {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final long TRANSFER_SIZE = 8L * 1024 * 1024;
+  private static final ThreadLocal<byte[]> BUFFER =
+      ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+  private static final Map<Path, FileDigest> FILE_DIGESTS = new ConcurrentHashMap<>();
+
+  private DigestUtil() {
+  }
+
+  /**
+   * Computes digests of the specified content.
+   */
+  public static DocumentDigest digest(byte[] content) {
+    StreamingDigest streamingDigest = new StreamingDigest();
+    streamingDigest.update(content, 0, content.length);
+    return streamingDigest.finish();
+  }
+
+  /**
+   * Computes digests of the stream content reading it to the end. The stream is not closed.
+   */
+  public static DocumentDigest digest(InputStream content) throws IOException {
+    StreamingDigest streamingDigest = new StreamingDigest();
+    byte[] buffer = BUFFER.get();
+    int read;
+    while ((read = content.read(buffer)) != -1) {
+      streamingDigest.update(buffer, 0, read);
+    }
+    return streamingDigest.finish();
+  }
+
+  /**
+   * Computes digests of the stream content while writing it to the specified file, so content is
+   * read only once and is not kept in memory. The file is created or truncated, the stream is not
+   * closed.
+   *
+   * @param content  content to digest
+   * @param sinkFile file to write content to
+   * @return digests of the content
+   */
+  public static DocumentDigest digest(InputStream content, Path sinkFile) throws IOException {
+    StreamingDigest streamingDigest = new StreamingDigest();
+    ReadableByteChannel source =
+        new DigestingReadableByteChannel(Channels.newChannel(content), streamingDigest);
+    try (FileChannel sink = FileChannel.open(sinkFile, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      long position = 0;
+      long transferred;
+      while ((transferred = sink.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+        position += transferred;
+      }
+    }
+    return streamingDigest.finish();
+  }
+
+  /**
+   * Returns digests of the file content. The file is read only if it wasn't digested before or was
+   * modified since then.
+   */
+  public static DocumentDigest digest(Path file) {
+    Path key = file.toAbsolutePath().normalize();
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+      FileDigest cached = FILE_DIGESTS.get(key);
+      if (cached != null && cached.matches(attributes)) {
+        return cached.digest;
+      }
+      DocumentDigest digest;
+      try (InputStream fileContent = Files.newInputStream(key)) {
+        digest = digest(fileContent);
+      }
+      FILE_DIGESTS.put(key, new FileDigest(attributes, digest));
+      return digest;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to compute digest of file: " + key, ex);
+    }
+  }
+
+  private static final class FileDigest {
+
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final DocumentDigest digest;
+
+    private FileDigest(BasicFileAttributes attributes, DocumentDigest digest) {
+      this.size = attributes.size();
+      this.lastModifiedTime = attributes.lastModifiedTime();
+      this.digest = digest;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+  }
+}
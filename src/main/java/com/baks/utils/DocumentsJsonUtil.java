@@ -0,0 +1,82 @@
+package com.baks.utils;
+
+import com.baks.pojo.response.DocumentDetailsObject;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads "documents" array of documents list responses token by token. Every array element is bound
+ * to {@link DocumentDetailsObject} directly from the parser, so neither intermediate tree of the
+ * whole response nor, when callback is used, the list of documents is created.
+ */
+public final class DocumentsJsonUtil {
+
+  private static final String DOCUMENTS_FIELD = "documents";
+  private static final ObjectMapper objectMapper =
+      new ObjectMapper().configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+  private static final ObjectReader documentReader =
+      objectMapper.readerFor(DocumentDetailsObject.class);
+
+  private DocumentsJsonUtil() {
+  }
+
+  /**
+   * Returns documents of the documents list response body. Empty list is returned when the body
+   * doesn't contain "documents" array.
+   */
+  public static List<DocumentDetailsObject> readDocuments(byte[] json) {
+    List<DocumentDetailsObject> documents = new ArrayList<>();
+    readDocuments(json, documents::add);
+    return documents;
+  }
+
+  /**
+   * Passes documents of the documents list response body to the consumer in the order of the
+   * "documents" array.
+   */
+  public static void readDocuments(byte[] json, Consumer<DocumentDetailsObject> consumer) {
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      readDocuments(parser, consumer);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read documents list", ex);
+    }
+  }
+
+  /**
+   * Passes documents of the documents list read from the stream to the consumer in the order of the
+   * "documents" array. The stream is not closed.
+   */
+  public static void readDocuments(InputStream json, Consumer<DocumentDetailsObject> consumer)
+      throws IOException {
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      readDocuments(parser, consumer);
+    }
+  }
+
+  private static void readDocuments(JsonParser parser, Consumer<DocumentDetailsObject> consumer)
+      throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Documents list should be JSON object");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+      if (DOCUMENTS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          consumer.accept(documentReader.readValue(parser));
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+}
@@ -9,8 +9,9 @@ import static com.baks.constants.TestDataConstants.METADATA_OTHER_STRING_VALUE;
 import static com.baks.constants.TestDataConstants.METADATA_STRING_VALUE;
 import static com.baks.constants.TestDataConstants.TEST;
 import static com.baks.constants.TestDataConstants.TEST_DOCUMENT_CATEGORY_CODE;
-import static com.baks.enums.TestDocumentType.getDocumentExtensionByType;
+import static com.baks.enums.TestDocumentType.getTestDocumentTypeByType;
 
+import com.baks.digest.DocumentDigest;
 import com.baks.enums.MetadataType;
 import com.baks.enums.TestDocumentType;
 import com.baks.exceptions.TestDataFileNotFoundException;
@@ -18,10 +19,12 @@ import com.baks.pojo.response.DocumentCategoryObject;
 import com.baks.pojo.response.MetadataObject;
 import com.baks.pojo.response.SystemDocumentTypeObject;
 import com.baks.pojo.testdata.AccessTokenTestData;
+import com.baks.pojo.testdata.SampleDocument;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.path.json.JsonPath;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -31,12 +34,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.CRC32;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.ResourceUtils;
 
 /**
@@ -45,44 +48,48 @@ import org.springframework.util.ResourceUtils;
 public final class TestDataUtil {
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
-  private static final String SAMPLE_DOCUMENT_PATH_TEMPLATE = "classpath:testdata/sampleDocument%s";
-  private static final String INFECTED_DOCUMENT_PATH = "classpath:testdata/eicar.txt";
+  private static final String SAMPLE_DOCUMENT_PATH_TEMPLATE = "testdata/sampleDocument%s";
+  private static final String INFECTED_DOCUMENT_PATH = "testdata/eicar.txt";
   private static final String TEST_TOKEN_DATA_PATH = "classpath:testdata/testTokens.json";
   private static final String SYSTEM_DOCUMENT_TYPE_JSON_PATH = "classpath:sdt.json";
+  private static final Map<TestDocumentType, SampleDocument> SAMPLE_DOCUMENTS =
+      new ConcurrentHashMap<>();
 
   private TestDataUtil() {
   }
 
   /**
-   * Returns File object By document type.
+   * Returns sample document by document type. Document content is read from test data folder once
+   * and kept in memory, so uploads of sample documents don't access file system.
    *
-   * @param documentType type of document, stored in test data folder.
-   * @return a corresponding File object
+   * @param testDocumentType type of document, stored in test data folder.
+   * @return a corresponding cached SampleDocument object
    */
-  public static File getSampleDocumentByType(String documentType) {
-    String sampleDocumentExtension = getDocumentExtensionByType(documentType);
-    try {
-      if (documentType.equals(TestDocumentType.INFECTED.getType())) {
-        return ResourceUtils.getFile(INFECTED_DOCUMENT_PATH);
-      } else {
-        return ResourceUtils.getFile(
-            String.format(SAMPLE_DOCUMENT_PATH_TEMPLATE, sampleDocumentExtension));
-      }
-    } catch (IOException ex) {
-      throw new TestDataFileNotFoundException(
-          String.format("Failed to read test document file with type: %s. %n%s",
-              documentType, ex.getMessage()));
-    }
+  public static SampleDocument getSampleDocument(TestDocumentType testDocumentType) {
+    return SAMPLE_DOCUMENTS.computeIfAbsent(testDocumentType, TestDataUtil::readSampleDocument);
   }
 
   /**
-   * Returns the size of File object By document type in bytes.
+   * Returns the size of sample document By document type in bytes.
    *
    * @param documentType type of document, stored in test data folder.
    * @return size of the file in bytes
    */
   public static int getTestDocumentSize(String documentType) {
-    return (int) getSampleDocumentByType(documentType).length();
+    return getSampleDocument(getTestDocumentTypeByType(documentType)).getSize();
+  }
+
+  private static SampleDocument readSampleDocument(TestDocumentType testDocumentType) {
+    String resourcePath = testDocumentType == TestDocumentType.INFECTED
+        ? INFECTED_DOCUMENT_PATH
+        : String.format(SAMPLE_DOCUMENT_PATH_TEMPLATE, testDocumentType.getExtension());
+    try (InputStream documentStream = new ClassPathResource(resourcePath).getInputStream()) {
+      return new SampleDocument(testDocumentType, documentStream.readAllBytes());
+    } catch (IOException ex) {
+      throw new TestDataFileNotFoundException(
+          String.format("Failed to read test document file with type: %s. %n%s",
+              testDocumentType.getType(), ex.getMessage()));
+    }
   }
 
   /**
@@ -187,14 +194,11 @@ public final class TestDataUtil {
   }
 
   /**
-   * Creates Digest Header Value based on test document size.
+   * Creates Digest Header Value based on test document content.
    */
   public static Map<String, String> createDigestData(String documentType) {
-    int fileSize = getTestDocumentSize(documentType);
-    CRC32 crc32 = new CRC32();
-    crc32.update(fileSize);
-    return Map.of("MD5", DigestUtils.md5Hex(String.valueOf(fileSize)),
-        "CRC32", String.valueOf(crc32.getValue()));
+    DocumentDigest digest = getSampleDocument(getTestDocumentTypeByType(documentType)).getDigest();
+    return Map.of("MD5", digest.getMd5(), "CRC32", digest.getCrc32());
   }
 
   /**
@@ -0,0 +1,57 @@
+package com.baks.runners;
+
+import com.baks.reporting.AsyncAllureResultsWriter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.junitplatform.AllureJunitPlatform;
+import io.qameta.allure.util.PropertiesUtils;
+import java.nio.file.Paths;
+import java.util.Properties;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Allure JUnit Platform listener, which writes results by {@link AsyncAllureResultsWriter}. Is
+ * registered in META-INF/services instead of default AllureJunitPlatform listener, which is
+ * deactivated in pom.xml. Pending results are written at the end of test plan and on JVM shutdown.
+ */
+public class AsyncAllureJunitPlatform extends AllureJunitPlatform {
+
+  private static final String RESULTS_DIRECTORY = "allure.results.directory";
+  private static final String QUEUE_CAPACITY = "allure.results.writer.queue.capacity";
+
+  private final AsyncAllureResultsWriter resultsWriter;
+
+  public AsyncAllureJunitPlatform() {
+    this(createResultsWriter());
+  }
+
+  private AsyncAllureJunitPlatform(AsyncAllureResultsWriter resultsWriter) {
+    super(createLifecycle(resultsWriter));
+    this.resultsWriter = resultsWriter;
+  }
+
+  @Override
+  public void testPlanExecutionFinished(TestPlan testPlan) {
+    super.testPlanExecutionFinished(testPlan);
+    resultsWriter.flush();
+  }
+
+  private static AsyncAllureResultsWriter createResultsWriter() {
+    Properties allureProperties = PropertiesUtils.loadAllureProperties();
+    AsyncAllureResultsWriter resultsWriter = new AsyncAllureResultsWriter(
+        Paths.get(allureProperties.getProperty(RESULTS_DIRECTORY, "allure-results")),
+        Integer.parseInt(allureProperties.getProperty(QUEUE_CAPACITY, "1024")));
+    Runtime.getRuntime().addShutdownHook(
+        new Thread(resultsWriter::close, "allure-results-writer-shutdown"));
+    return resultsWriter;
+  }
+
+  /*
+  Lifecycle is shared with steps aspects and RestAssured filters through Allure.getLifecycle().
+   */
+  private static AllureLifecycle createLifecycle(AsyncAllureResultsWriter resultsWriter) {
+    AllureLifecycle lifecycle = new AllureLifecycle(resultsWriter);
+    Allure.setLifecycle(lifecycle);
+    return lifecycle;
+  }
+}
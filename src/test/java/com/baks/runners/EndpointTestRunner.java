@@ -1,15 +1,19 @@
 package com.baks.runners;
 
 import com.baks.reporting.AllureReporter;
-import com.baks.service.AuthorizationService;
+import com.baks.reporting.LatencyStatisticsFilter;
 import com.baks.service.DocumentPlatformService;
+import com.baks.service.DocumentPoolService;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.Isolated;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 
@@ -28,10 +32,32 @@ public class EndpointTestRunner {
         testMethod -> log.info("Start execution for test: {}", testMethod.getName()));
   }
 
+  /*
+  Isolated tests check quantity of documents, so documents pool producer shouldn't upload or
+  delete documents while they are executed.
+   */
+  @BeforeAll
+  static void pauseDocumentPoolRefillForIsolatedTests(TestInfo testInfo,
+      @Autowired DocumentPoolService documentPoolService) {
+    if (isIsolatedTestClass(testInfo)) {
+      documentPoolService.pauseRefill();
+    }
+  }
+
   @AfterAll
-  static void tearDown() {
+  static void tearDown(TestInfo testInfo, @Autowired DocumentPoolService documentPoolService,
+      @Autowired LatencyStatisticsFilter latencyStatisticsFilter) {
+    if (isIsolatedTestClass(testInfo)) {
+      documentPoolService.resumeRefill();
+    }
     AllureReporter.attachEnvironmentInfo();
-    AuthorizationService.clearAccessToken();
+    latencyStatisticsFilter.reportLatencyStatistics();
     DocumentPlatformService.clearTestDocumentCategoryData();
   }
+
+  private static boolean isIsolatedTestClass(TestInfo testInfo) {
+    return testInfo.getTestClass()
+        .map(testClass -> testClass.isAnnotationPresent(Isolated.class))
+        .orElse(false);
+  }
 }
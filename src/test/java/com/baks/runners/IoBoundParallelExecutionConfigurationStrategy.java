@@ -0,0 +1,71 @@
+package com.baks.runners;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * JUnit parallel execution strategy for I/O bound tests, which spend most of their time waiting
+ * for API responses. Parallelism is not bound to CPU cores quantity: it is taken from
+ * "junit.jupiter.execution.parallel.config.custom.parallelism" parameter, by default 256.
+ * Extra threads are allowed to compensate workers blocked in join operations.
+ *
+ * <p>JUnit 5.9 runs tests on ForkJoinPool platform threads only, so in "virtual-threads" Maven
+ * profile tests are executed by this strategy while concurrent requests of the step layer are
+ * executed on virtual threads, see {@link com.baks.utils.ConcurrencyUtil}.
+ */
+public class IoBoundParallelExecutionConfigurationStrategy
+    implements ParallelExecutionConfigurationStrategy {
+
+  private static final String PARALLELISM_PARAMETER = "custom.parallelism";
+  private static final String MAX_POOL_SIZE_PARAMETER = "custom.max-pool-size";
+  private static final int DEFAULT_PARALLELISM = 256;
+  private static final int KEEP_ALIVE_SECONDS = 30;
+
+  @Override
+  public ParallelExecutionConfiguration createConfiguration(
+      ConfigurationParameters configurationParameters) {
+    int parallelism = configurationParameters.get(PARALLELISM_PARAMETER, Integer::valueOf)
+        .orElse(DEFAULT_PARALLELISM);
+    int maxPoolSize = configurationParameters.get(MAX_POOL_SIZE_PARAMETER, Integer::valueOf)
+        .orElse(parallelism * 2);
+    return new IoBoundParallelExecutionConfiguration(parallelism, maxPoolSize);
+  }
+
+  private static class IoBoundParallelExecutionConfiguration
+      implements ParallelExecutionConfiguration {
+
+    private final int parallelism;
+    private final int maxPoolSize;
+
+    IoBoundParallelExecutionConfiguration(int parallelism, int maxPoolSize) {
+      this.parallelism = parallelism;
+      this.maxPoolSize = Math.max(maxPoolSize, parallelism);
+    }
+
+    @Override
+    public int getParallelism() {
+      return parallelism;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+      return parallelism;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+      return maxPoolSize;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+      return parallelism;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+      return KEEP_ALIVE_SECONDS;
+    }
+  }
+}
@@ -3,7 +3,6 @@ package com.baks.steps;
 import static com.baks.constants.ApiRequestsConstants.CORRELATION_ID_HEADER;
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_ID;
 import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_ACTIVE_VALUE;
-import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_HEADER;
 import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_KEY;
 import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_READ_ONLY_VALUE;
 import static com.baks.constants.ApiRequestsConstants.PER_PAGE_PARAM;
@@ -13,6 +12,7 @@ import static com.baks.constants.TestDataConstants.SYSTEM_DOCUMENT_TYPE_NAME;
 import static com.baks.constants.TestDataConstants.TEST_DOCUMENT_CATEGORY_CODE;
 
 import com.baks.constants.TestDataConstants;
+import com.baks.enums.DocumentPoolCategory;
 import com.baks.enums.MetadataType;
 import com.baks.enums.ResponseErrorModel;
 import com.baks.exceptions.UnexpectedResponseException;
@@ -21,27 +21,39 @@ import com.baks.pojo.response.DocumentDetailsObject;
 import com.baks.pojo.response.MetadataObject;
 import com.baks.pojo.response.SystemDocumentTypeObject;
 import com.baks.service.DocumentPlatformService;
+import com.baks.service.DocumentPoolService;
 import com.baks.service.DocumentsUsageService;
+import com.baks.utils.ConcurrencyUtil;
 import com.baks.utils.DateUtil;
+import com.baks.utils.DocumentsJsonUtil;
 import com.baks.utils.TestDataUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import java.net.HttpURLConnection;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.function.FailableFunction;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Assumptions;
 import org.awaitility.Awaitility;
+import org.awaitility.core.EvaluatedCondition;
 import org.awaitility.core.ThrowingRunnable;
-import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.LinkedCaseInsensitiveMap;
@@ -49,13 +61,16 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
 /**
  * Parent class for classes with step actions.
  */
-@ResourceLock(value = "documentsUsageService")
 public class BaseDocumentSteps {
 
   @Autowired
   DocumentPlatformService documentPlatformService;
   @Autowired
   DocumentsUsageService documentsUsageService;
+  @Autowired
+  DocumentPoolService documentPoolService;
+  @Autowired
+  MeterRegistry meterRegistry;
 
   @Step("Extract document id from document Creation Response")
   public String getDocumentIdFromCreationResponse(Response documentCreationResponse) {
@@ -83,7 +98,7 @@ public class BaseDocumentSteps {
   @Step("Get list of Document Details POJOs from documents response")
   public List<DocumentDetailsObject> getDocumentDetailsObjectsListFromResponse(
       Response listOfDocumentsResponse) {
-    return listOfDocumentsResponse.jsonPath().getList("documents", DocumentDetailsObject.class);
+    return DocumentsJsonUtil.readDocuments(listOfDocumentsResponse.asByteArray());
   }
 
   @Step("Get list of NOT deleted Documents")
@@ -96,8 +111,9 @@ public class BaseDocumentSteps {
 
   @Step("Prepare list of not deleted documents for tests")
   public List<String> prepareNotDeletedDocumentsIdList(int requiredDocumentsQty) {
-    return prepareDocumentsForTest(getListOfNotDeletedDocumentsForTest(), requiredDocumentsQty,
-        this::generateDocumentForTest);
+    return prepareDocumentsForTest(
+        acquireDocumentsFromPool(DocumentPoolCategory.ACTIVE, requiredDocumentsQty),
+        requiredDocumentsQty, this::generateDocumentsForTest);
   }
 
   /**
@@ -108,9 +124,9 @@ public class BaseDocumentSteps {
         removeInfectedFilesFromDocumentsList(getListOfNotDeletedDocuments()));
   }
 
-  @Step("Get Randomly selected single document from list of NOT deleted Documents")
+  @Step("Get single NOT deleted document from documents pool")
   public String getRandomDocumentIdFromDocumentsList() {
-    return getRandomDocumentIdFromDocumentsList(getListOfNotDeletedDocumentsForTest());
+    return acquireDocumentFromPool(DocumentPoolCategory.ACTIVE);
   }
 
   /**
@@ -122,6 +138,33 @@ public class BaseDocumentSteps {
         this::generateDocumentForTest);
   }
 
+  /**
+   * Hands out document of specified category from documents pool. Test user is prepared before
+   * the pool is seeded.
+   */
+  @Step("Acquire '{category}' document from documents pool")
+  public String acquireDocumentFromPool(DocumentPoolCategory category) {
+    prepareUserForPool();
+    return documentPoolService.acquire(category);
+  }
+
+  /**
+   * Hands out available documents of specified category from documents pool.
+   *
+   * @return list of documents id's, which may contain less than requested quantity of documents
+   */
+  @Step("Acquire {documentsQty} '{category}' documents from documents pool")
+  public List<String> acquireDocumentsFromPool(DocumentPoolCategory category, int documentsQty) {
+    prepareUserForPool();
+    return documentPoolService.acquire(category, documentsQty);
+  }
+
+  private void prepareUserForPool() {
+    if (!documentPoolService.isSeeded()) {
+      prepareUserForTests();
+    }
+  }
+
   @Step("Generate document for test if list of not deleted Documents is empty")
   public String generateDocumentForTest() {
     prepareUserForTests();
@@ -129,10 +172,31 @@ public class BaseDocumentSteps {
         documentPlatformService.uploadPdfDocumentWithPredefinedMandatoryData();
     checkResponseStatusCodeIs201(documentCreationResponse, "Upload document");
     String documentId = getDocumentIdFromCreationResponse(documentCreationResponse);
-    documentsUsageService.addDocumentIdToUsageList(documentId);
+    documentsUsageService.tryClaim(documentId);
     return documentId;
   }
 
+  /**
+   * Uploads specified quantity of documents concurrently. User is prepared and test document
+   * category data is resolved once per batch.
+   *
+   * @return id's of uploaded documents in completion order
+   */
+  @Step("Generate {documentsQty} documents for test")
+  public List<String> generateDocumentsForTest(int documentsQty) {
+    prepareUserForTests();
+    String categoryId = getTestDocumentCategoryId();
+    List<MetadataObject> mandatoryMetadata = getTestDocumentCategoryMandatoryMetadata();
+    return executeConcurrently(documentsQty, () -> {
+      Response documentCreationResponse = documentPlatformService
+          .uploadPdfDocumentWithPredefinedMandatoryData(categoryId, mandatoryMetadata);
+      Assertions.assertThat(documentCreationResponse.getStatusCode())
+          .as(getResponseCheckAssertionMessage(documentCreationResponse, "Upload document"))
+          .isEqualTo(HttpURLConnection.HTTP_CREATED);
+      return documentCreationResponse.jsonPath().getString(DOCUMENT_ID);
+    });
+  }
+
   @Step("GET list of deleted Documents")
   public List<DocumentDetailsObject> getListOfDeletedDocuments() {
     Response listOfDocuments = documentPlatformService.getListOfDeletedDocuments();
@@ -147,10 +211,9 @@ public class BaseDocumentSteps {
     return getDocumentIdListFromDocumentsList(getListOfDeletedDocuments());
   }
 
-  @Step("Get Randomly selected single document from list of deleted Documents")
+  @Step("Get single deleted document from documents pool")
   public String getRandomDocumentIdFromDeletedDocumentsList() {
-    return getRandomDocumentIdFromListOrGenerateOne(getListOfDeletedDocumentsForTest(),
-        this::generateDeletedDocumentForTest);
+    return acquireDocumentFromPool(DocumentPoolCategory.DELETED);
   }
 
   @Step("Generate deleted document for test if list of deleted Documents is empty")
@@ -158,10 +221,26 @@ public class BaseDocumentSteps {
     String documentId = getRandomDocumentIdFromDocumentsList();
     Response deleteDocumentResponse = documentPlatformService.deleteDocument(documentId);
     checkResponseStatusCodeIs204(deleteDocumentResponse, "Generate deleted document for test");
-    documentsUsageService.addDocumentIdToUsageList(documentId);
     return documentId;
   }
 
+  /**
+   * Uploads and then deletes specified quantity of documents concurrently.
+   *
+   * @return id's of deleted documents in completion order
+   */
+  @Step("Generate {documentsQty} deleted documents for test")
+  public List<String> generateDeletedDocumentsForTest(int documentsQty) {
+    return executeConcurrently(generateDocumentsForTest(documentsQty), documentId -> {
+      Response deleteDocumentResponse = documentPlatformService.deleteDocument(documentId);
+      Assertions.assertThat(deleteDocumentResponse.getStatusCode())
+          .as(getResponseCheckAssertionMessage(deleteDocumentResponse,
+              "Generate deleted document for test"))
+          .isEqualTo(HttpURLConnection.HTTP_NO_CONTENT);
+      return documentId;
+    });
+  }
+
   @Step("Get list of Documents with 'active' lock status")
   public List<DocumentDetailsObject> getListOfActiveLockStatusDocuments() {
     Map<String, Object> filterParams = Map.of(LOCK_STATUS_KEY, LOCK_STATUS_ACTIVE_VALUE);
@@ -182,45 +261,29 @@ public class BaseDocumentSteps {
     return getDocumentDetailsObjectsListFromResponse(listOfDocuments);
   }
 
-  @Step("Get 'read only' random documentId from list of NOT deleted Documents")
+  @Step("Get 'read only' document from documents pool")
   public String getRandomReadOnlyDocumentId() {
-    List<String> readOnlyDocumentsList =
-        getDocumentIdListFromDocumentsList(getListOfReadOnlyLockStatusDocuments());
-    return getRandomDocumentIdFromListOrGenerateOne(readOnlyDocumentsList,
-        this::generateReadOnlyDocumentForTest);
+    return acquireDocumentFromPool(DocumentPoolCategory.READ_ONLY);
   }
 
-  @Step("Generate 'read only' document for test if list of Documents doesn't contain it")
-  private String generateReadOnlyDocumentForTest() {
-    Response documentCreationResponse =
-        documentPlatformService.uploadPdfDocumentWithSpecifiedParameters(
-            getRequestHeadersWithMandatoryMeta(
-                Map.of(LOCK_STATUS_HEADER, LOCK_STATUS_READ_ONLY_VALUE)));
-    checkResponseStatusCodeIs201(documentCreationResponse,
-        "Upload document with with specified 'read only' lock status");
-    String documentId = getDocumentIdFromCreationResponse(documentCreationResponse);
-    documentsUsageService.addDocumentIdToUsageList(documentId);
-    return documentId;
-  }
-
-  @Step("Get random document from list of Documents with 'Active' Lock Status")
+  @Step("Get document with 'Active' Lock Status from documents pool")
   public String getRandomDocumentIdWithActiveLockStatus() {
-    return getRandomDocumentIdFromDocumentsList(
-        getDocumentIdListFromDocumentsList(getListOfActiveLockStatusDocuments()));
+    return acquireDocumentFromPool(DocumentPoolCategory.ACTIVE);
   }
 
   /**
-   * Extracts documentId from list of DocumentDetailsObject's and removes documentId's which are in
-   * use by other tests, to avoid double document id usage.
+   * Extracts documentId from list of DocumentDetailsObject's and skips documentId's which are
+   * already in use by other tests. Documents are not claimed: document should be claimed when it is
+   * picked from the list, to avoid double document id usage.
    *
    * @return list of documentId's
    */
   public List<String> getDocumentIdListFromDocumentsList(
       List<DocumentDetailsObject> documentsList) {
-    List<String> listOfDocumentId = documentsList.stream()
-        .map(DocumentDetailsObject::getDocumentId).collect(Collectors.toList());
-    documentsUsageService.removeUsedDocumentsFromList(listOfDocumentId);
-    return listOfDocumentId;
+    return documentsList.stream()
+        .map(DocumentDetailsObject::getDocumentId)
+        .filter(documentId -> !documentsUsageService.isInUse(documentId))
+        .collect(Collectors.toList());
   }
 
   private List<DocumentDetailsObject> removeInfectedFilesFromDocumentsList(
@@ -230,41 +293,94 @@ public class BaseDocumentSteps {
         .collect(Collectors.toList());
   }
 
+  /*
+  Documents from the list are claimed in random order: document which is claimed by another test
+  concurrently is skipped. New document is generated only if every document is already claimed,
+  generate action should claim generated document.
+   */
   private String getRandomDocumentIdFromListOrGenerateOne(List<String> documentsList,
       Callable<String> generateDocumentAction) {
-    String documentId;
-    if (documentsList.isEmpty()) {
-      try {
-        documentId = generateDocumentAction.call();
-      } catch (Exception e) {
-        throw new RuntimeException("Failed to generate document for test: %s" + e.getMessage());
+    List<String> candidates = new ArrayList<>(documentsList);
+    Collections.shuffle(candidates, ThreadLocalRandom.current());
+    for (String documentId : candidates) {
+      if (documentsUsageService.tryClaim(documentId)) {
+        return documentId;
       }
-    } else {
-      int randomIndex = ThreadLocalRandom.current().nextInt(documentsList.size());
-      documentId = documentsList.get(randomIndex);
     }
-    documentsUsageService.addDocumentIdToUsageList(documentId);
-    return documentId;
+    try {
+      return generateDocumentAction.call();
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to generate document for test: %s" + e.getMessage());
+    }
   }
 
+  /*
+  Documents of the list should be already claimed by the caller, e.g. acquired from documents pool.
+  Missing documents are generated and claimed on the caller thread.
+   */
   protected List<String> prepareDocumentsForTest(List<String> documentsList,
-      int requiredDocumentsQty, Callable<String> generateDocumentAction) {
-    if (documentsList.size() < requiredDocumentsQty) {
-      int documentsToPrepare = requiredDocumentsQty - documentsList.size();
-      for (int i = 0; i < documentsToPrepare; i++) {
-        try {
-          documentsList.add(generateDocumentAction.call());
-        } catch (Exception e) {
-          throw new RuntimeException("Failed to generate document for test: %s" + e.getMessage());
-        }
-      }
-    }
+      int requiredDocumentsQty, IntFunction<List<String>> generateDocumentsAction) {
     List<String> preparedDocuments =
         documentsList.stream().limit(requiredDocumentsQty).collect(Collectors.toList());
-    documentsUsageService.addDocumentsIdToUsageList(preparedDocuments);
+    if (preparedDocuments.size() < requiredDocumentsQty) {
+      List<String> generatedDocuments =
+          generateDocumentsAction.apply(requiredDocumentsQty - preparedDocuments.size());
+      generatedDocuments.forEach(documentsUsageService::tryClaim);
+      preparedDocuments.addAll(generatedDocuments);
+    }
     return preparedDocuments;
   }
 
+  /**
+   * Performs specified action required quantity of times concurrently.
+   *
+   * @return results of all actions in completion order
+   * @see #executeConcurrently(List, FailableFunction)
+   */
+  protected <T> List<T> executeConcurrently(int actionsQty, Callable<T> action) {
+    return executeConcurrently(Collections.nCopies(actionsQty, action), Callable::call);
+  }
+
+  /**
+   * Performs specified action for every input concurrently. Quantity of actions in progress is
+   * limited by "threads.count" value, actions are run on threads provided by
+   * {@link ConcurrencyUtil#newTaskExecutor(String)}.
+   *
+   * @return results of all actions in completion order
+   */
+  protected <T, R> List<R> executeConcurrently(List<T> inputs,
+      FailableFunction<T, R, Exception> action) {
+    ExecutorService executor = ConcurrencyUtil.newTaskExecutor("steps-fan-out");
+    CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+    Iterator<T> pendingInputs = inputs.iterator();
+    List<R> results = new ArrayList<>(inputs.size());
+    int actionsInProgress = 0;
+    try {
+      while (actionsInProgress < ConcurrencyUtil.getThreadsCount() && pendingInputs.hasNext()) {
+        T input = pendingInputs.next();
+        completionService.submit(() -> action.apply(input));
+        actionsInProgress++;
+      }
+      while (actionsInProgress > 0) {
+        results.add(completionService.take().get());
+        actionsInProgress--;
+        if (pendingInputs.hasNext()) {
+          T input = pendingInputs.next();
+          completionService.submit(() -> action.apply(input));
+          actionsInProgress++;
+        }
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Concurrent steps execution was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Concurrent step failed: " + e.getCause(), e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Step("Get quantity of not deleted documents")
   public int getQuantityOfNotDeletedDocuments() {
     Response countResponse = documentPlatformService.countDocumentsUsingCustomSpecification(
@@ -392,6 +508,7 @@ public class BaseDocumentSteps {
        if assertion code should fail and timer is still left then retry action will be performed.*/
         .atMost(Duration.ofSeconds(10))
         .pollDelay(Duration.ofMillis(200)) // Delay before code execution.
+        .conditionEvaluationListener(this::countAwaitilityPoll)
         .untilAsserted(assertionAction);
   }
 
@@ -401,12 +518,17 @@ public class BaseDocumentSteps {
         .await()
         .atMost(Duration.ofSeconds(15))
         .pollInterval(Duration.ofSeconds(5))
+        .conditionEvaluationListener(this::countAwaitilityPoll)
         .untilAsserted(() -> Assertions.assertThat(
                 getDocumentDetailsObjectByDocumentId(documentId).getScanStatus())
             .as("Check that document is scanned by Antivirus successfully")
             .isNotEqualToIgnoringCase(ANTIVIRUS_SCAN_STATUS_IN_PROGRESS));
   }
 
+  private void countAwaitilityPoll(EvaluatedCondition<?> condition) {
+    meterRegistry.counter("dp.awaitility.polls").increment();
+  }
+
   @Step("Send GET request to retrieve document categories list")
   public Response getDocumentCategoriesList() {
     return documentPlatformService.getDocumentCategories();
@@ -497,7 +619,8 @@ public class BaseDocumentSteps {
         .isEqualTo(digestData.get("CRC32"));
   }
 
-  private String getResponseCheckAssertionMessage(Response response, String assertionDescription) {
+  protected String getResponseCheckAssertionMessage(Response response,
+      String assertionDescription) {
     return String.format("%s: response code check; \n Request correlation id: %s",
         assertionDescription, response.getHeader(CORRELATION_ID_HEADER));
   }
@@ -1,6 +1,7 @@
 package com.baks.steps;
 
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_CATEGORY_HEADER;
+import static com.baks.constants.ApiRequestsConstants.DOCUMENT_ID;
 import static com.baks.constants.ApiRequestsConstants.DOCUMENT_TITLE_HEADER;
 import static com.baks.constants.ApiRequestsConstants.EXPIRES_AT_HEADER;
 import static com.baks.constants.ApiRequestsConstants.LOCK_STATUS_ACTIVE_VALUE;
@@ -9,16 +10,24 @@ import static com.baks.constants.TestDataConstants.TEST;
 import static com.baks.constants.TestDataConstants.TEST_DOCUMENT_CATEGORY_CODE;
 import static com.baks.constants.TestDataConstants.USER_ID_VALUE;
 
+import com.baks.digest.DocumentDigest;
 import com.baks.enums.TestDocumentType;
+import com.baks.generator.SyntheticDocument;
 import com.baks.pojo.response.DocumentDetailsObject;
+import com.baks.service.DocumentPlatformAsyncClient;
+import com.baks.service.DocumentUploadContent;
 import com.baks.utils.DateUtil;
 import com.baks.utils.TestDataUtil;
 import io.qameta.allure.Step;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
+import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -27,6 +36,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class CreateDocumentSteps extends BaseDocumentSteps {
 
+  @Autowired
+  private DocumentPlatformAsyncClient documentPlatformAsyncClient;
+
   @Step("Send POST request to upload PDF document without optional document parameters")
   public Response uploadPdfDocumentWithoutOptionalParameters() {
     return documentPlatformService.uploadPdfDocumentWithPredefinedMandatoryData();
@@ -93,6 +105,34 @@ public class CreateDocumentSteps extends BaseDocumentSteps {
     return documentPlatformService.uploadDocumentByType(testDocument);
   }
 
+  @Step("Send POST request to upload synthetic document {syntheticDocument}")
+  public Response uploadSyntheticDocument(SyntheticDocument syntheticDocument) {
+    return documentPlatformService.uploadDocumentByType(syntheticDocument);
+  }
+
+  @Step("Send POST request to upload {testDocumentType} document content")
+  public Response uploadDocumentContent(TestDocumentType testDocumentType,
+      DocumentUploadContent content) {
+    return documentPlatformService.uploadDocumentContent(testDocumentType, content);
+  }
+
+  /**
+   * Uploads document content by asynchronous client, which sends Content-Length header when content
+   * length is known.
+   *
+   * @return id of created document
+   */
+  @Step("Send POST request by async client to upload {testDocumentType} document content")
+  public String uploadDocumentContentByAsyncClient(TestDocumentType testDocumentType,
+      DocumentUploadContent content) {
+    HttpResponse<String> uploadResponse =
+        documentPlatformAsyncClient.uploadDocumentContent(testDocumentType, content).join();
+    Assertions.assertThat(uploadResponse.statusCode())
+        .as("Upload document content by async client: response code check")
+        .isEqualTo(HttpURLConnection.HTTP_CREATED);
+    return JsonPath.from(uploadResponse.body()).getString(DOCUMENT_ID);
+  }
+
   //------------------------Negative steps ------------------------
   @Step("Send POST request to upload PDF document without mandatory field: Document-Category")
   public Response uploadDocumentWithoutDocumentCategory() {
@@ -193,6 +233,18 @@ public class CreateDocumentSteps extends BaseDocumentSteps {
     checkDocumentCreationResponseData(documentCreationResponse);
   }
 
+  /**
+   * Checks document creation response and waits until created document is scanned by antivirus.
+   *
+   * @return id of the created document
+   */
+  public String getScannedDocumentId(Response documentCreationResponse) {
+    checkCreatedDocumentResponse(documentCreationResponse);
+    String documentId = getDocumentIdFromCreationResponse(documentCreationResponse);
+    waitForAntivirusScanToBeCompleted(documentId);
+    return documentId;
+  }
+
   @Step("Check document creation response data")
   private void checkDocumentCreationResponseData(Response documentCreationResponse) {
     List<String> requiredValues = List.of("documentId", "detailsUri", "downloadUri");
@@ -290,4 +342,28 @@ public class CreateDocumentSteps extends BaseDocumentSteps {
         .as("Check uploaded document size in the document details equals to uploaded document.")
         .isEqualTo(expectedDocumentLength);
   }
+
+  @Step("Check content of a stream can't be uploaded twice")
+  public void checkUploadContentCannotBeSentTwice(DocumentUploadContent content) {
+    Assertions.assertThatThrownBy(content::openStream)
+        .as("Check second upload of the stream content fails fast")
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Step("Check uploaded document size and checksums in the document details")
+  public void checkUploadedDocumentMatches(String documentId,
+      DocumentDigest uploadedDocumentDigest) {
+    DocumentDetailsObject documentDetails = getDocumentDetailsObjectByDocumentId(documentId);
+    SoftAssertions softAssertions = new SoftAssertions();
+    softAssertions.assertThat((long) documentDetails.getSize())
+        .as("Check document details size equals to uploaded document size.")
+        .isEqualTo(uploadedDocumentDigest.getSize());
+    softAssertions.assertThat(documentDetails.getMd5())
+        .as("Check document details MD5 equals to uploaded document MD5.")
+        .isEqualTo(uploadedDocumentDigest.getMd5());
+    softAssertions.assertThat(documentDetails.getCrc32())
+        .as("Check document details CRC32 equals to uploaded document CRC32.")
+        .isEqualTo(uploadedDocumentDigest.getCrc32());
+    softAssertions.assertAll();
+  }
 }
@@ -1,5 +1,6 @@
 package com.baks.steps;
 
+import com.baks.enums.DocumentPoolCategory;
 import com.baks.pojo.response.DocumentDetailsObject;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
@@ -62,8 +63,9 @@ public class DeleteDocumentSteps extends BaseDocumentSteps {
 
   @Step("Prepare list of deleted documents for tests")
   public List<String> prepareDeletedDocumentIdList(int requiredDocumentsQty) {
-    return prepareDocumentsForTest(getListOfDeletedDocumentsForTest(), requiredDocumentsQty,
-        this::generateDeletedDocumentForTest);
+    return prepareDocumentsForTest(
+        acquireDocumentsFromPool(DocumentPoolCategory.DELETED, requiredDocumentsQty),
+        requiredDocumentsQty, this::generateDeletedDocumentsForTest);
   }
 
   @Step("Check document 'deleted' field equals 'true' in Document Details")
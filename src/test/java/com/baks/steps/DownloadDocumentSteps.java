@@ -1,10 +1,19 @@
 package com.baks.steps;
 
+import com.baks.digest.DocumentDigest;
 import com.baks.enums.TestDocumentType;
+import com.baks.service.DocumentPlatformAsyncClient;
+import com.baks.utils.DigestUtil;
 import com.baks.utils.TestDataUtil;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
 import org.assertj.core.api.Assertions;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -13,6 +22,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class DownloadDocumentSteps extends BaseDocumentSteps {
 
+  @Autowired
+  private DocumentPlatformAsyncClient documentPlatformAsyncClient;
+
   @Step("Send GET request to download document by DocumentId")
   public Response downloadDocumentByDocumentId(String documentId) {
     return documentPlatformService.downloadDocumentByIdUsingCustomSpecification(
@@ -67,6 +79,24 @@ public class DownloadDocumentSteps extends BaseDocumentSteps {
         documentPlatformService.getSpecificationWithoutUserId());
   }
 
+  /**
+   * Downloads document as a stream and computes digests of its content while it is received, so
+   * the document is not buffered in memory regardless of its size.
+   */
+  @Step("Download document by DocumentId as a stream and compute its digest")
+  public DocumentDigest downloadDocumentDigestByDocumentId(String documentId) {
+    HttpResponse<InputStream> downloadResponse =
+        documentPlatformAsyncClient.downloadDocumentStreamById(documentId).join();
+    try (InputStream documentContent = downloadResponse.body()) {
+      Assertions.assertThat(downloadResponse.statusCode())
+          .as("Download document by DocumentId as a stream: response code check")
+          .isEqualTo(HttpURLConnection.HTTP_OK);
+      return DigestUtil.digest(documentContent);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read downloaded document " + documentId, ex);
+    }
+  }
+
   //------------------------Verification steps ------------------------
   @Step("Check downloaded document in the response")
   public void checkDownloadDocumentResponse(Response downloadResponse,
@@ -16,8 +16,12 @@ import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 
 import com.baks.enums.FilterComparator;
 import com.baks.enums.MetadataType;
+import com.baks.enums.PaginationMode;
 import com.baks.enums.ResponseErrorModel;
 import com.baks.pojo.response.DocumentDetailsObject;
+import com.baks.service.DocumentsPaginationService;
+import com.baks.service.DocumentsScanResult;
+import com.baks.utils.ConcurrencyUtil;
 import com.baks.utils.DateUtil;
 import io.qameta.allure.Step;
 import io.restassured.http.ContentType;
@@ -30,9 +34,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -41,6 +47,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class FilterDocumentsSteps extends BaseDocumentSteps {
 
+  @Autowired
+  private DocumentsPaginationService documentsPaginationService;
+
   @Step("Send POST request to get list of documents")
   public Response getNotDeletedFilteredDocuments() {
     return documentPlatformService.getListOfNotDeletedDocumentsUsingCustomSpecification(
@@ -218,6 +227,23 @@ public class FilterDocumentsSteps extends BaseDocumentSteps {
         getQuantityOfNotDeletedDocuments() / pageSize).setScale(0, RoundingMode.UP).intValue();
   }
 
+  /**
+   * Walks all pages of NOT deleted documents and collects them into the list.
+   */
+  @Step("Get all NOT deleted documents page by page")
+  public List<DocumentDetailsObject> getAllNotDeletedDocumentsByPages(
+      PaginationMode paginationMode, int pageSize) {
+    try (Stream<DocumentDetailsObject> documents =
+        documentsPaginationService.streamNotDeletedDocuments(paginationMode, pageSize)) {
+      return documents.collect(Collectors.toList());
+    }
+  }
+
+  @Step("Get all NOT deleted documents by concurrent requests of pages")
+  public DocumentsScanResult scanAllNotDeletedDocuments() {
+    return documentsPaginationService.scanNotDeletedDocuments(ConcurrencyUtil.getThreadsCount());
+  }
+
   //---------------------------Additional cases -----------------------------------------------
   @Step("Send POST request to get filtered documents using specified correlation id header")
   public Response getDocumentsUsingSpecifiedCorrelationIdHeader(String correlationId) {
@@ -497,6 +523,25 @@ public class FilterDocumentsSteps extends BaseDocumentSteps {
         .hasSize(pageSize);
   }
 
+  /**
+   * Checks that walked documents are not repeated. Size of the list is checked only if documents
+   * count before and after the walk is the same, as documents inserted or deleted during the walk
+   * shift the pages.
+   */
+  @Step("Check all NOT deleted documents are walked once")
+  public void checkAllNotDeletedDocumentsWalked(List<DocumentDetailsObject> documentsList,
+      int initialCount, int finalCount) {
+    checkListOfNotDeletedDocuments(documentsList);
+    if (initialCount == finalCount) {
+      Assertions.assertThat(documentsList)
+          .as("Check all not deleted documents are walked")
+          .hasSize(initialCount);
+    }
+    Assertions.assertThat(documentsList.stream().map(DocumentDetailsObject::getDocumentId))
+        .as("Check documents are not repeated on different pages")
+        .doesNotHaveDuplicates();
+  }
+
   @Step("Check not deleted documents per page size with specified page numbering")
   public void checkNotDeletedDocumentsPerPageNumberAndSize(
       List<DocumentDetailsObject> documentsList,
@@ -76,7 +76,6 @@ public class HardDeleteDocumentsByIdSteps extends BaseDocumentSteps {
     actionWithDelay(() ->
         checkResponseStatusCodeIs404(documentPlatformService.getDocumentDetailsById(documentId),
             "Get hard deleted document details"));
-    documentsUsageService.addDocumentIdToUsageList(documentId);
     return documentId;
   }
 }
@@ -8,21 +8,31 @@ import static com.baks.utils.TestDataUtil.getRandomString;
 import com.baks.enums.MetadataType;
 import com.baks.enums.ResponseErrorModel;
 import com.baks.enums.TestDocumentType;
+import com.baks.generator.SyntheticDocument;
+import com.baks.generator.SyntheticDocumentGenerator;
 import com.baks.pojo.response.DocumentDetailsObject;
+import com.baks.pojo.testdata.SampleDocument;
 import com.baks.runners.EndpointTestRunner;
+import com.baks.service.DocumentUploadContent;
 import com.baks.steps.CreateDocumentSteps;
 import com.baks.utils.DateUtil;
+import com.baks.utils.DigestUtil;
 import com.baks.utils.TestDataUtil;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -85,6 +95,52 @@ class CreateDocumentTest extends EndpointTestRunner {
     createDocumentSteps.checkCreatedDocumentResponse(uploadResponse);
   }
 
+  @ParameterizedTest
+  @DisplayName("Upload synthetic document of specified size and check its checksums")
+  @EnumSource(value = TestDocumentType.class, names = {"PDF", "PNG", "WORD", "EXCEL"})
+  void uploadSyntheticDocumentTest(TestDocumentType testDocumentType) {
+    SyntheticDocument syntheticDocument = SyntheticDocumentGenerator.generate(testDocumentType,
+        1024 * 1024 + TestDataUtil.getRandomInteger(0, 64 * 1024), System.nanoTime());
+    Response uploadResponse = createDocumentSteps.uploadSyntheticDocument(syntheticDocument);
+    createDocumentSteps.checkUploadedDocumentMatches(
+        createDocumentSteps.getScannedDocumentId(uploadResponse), syntheticDocument.getDigest());
+  }
+
+  @Test
+  @DisplayName("Upload document content from file")
+  void uploadDocumentContentFromFileTest(@TempDir Path tempDirectory) throws IOException {
+    Path documentFile = Files.write(tempDirectory.resolve("document.pdf"),
+        TestDataUtil.getSampleDocument(TestDocumentType.PDF).getContent());
+    Response uploadResponse = createDocumentSteps.uploadDocumentContent(TestDocumentType.PDF,
+        DocumentUploadContent.ofPath(documentFile));
+    createDocumentSteps.checkUploadedDocumentMatches(
+        createDocumentSteps.getScannedDocumentId(uploadResponse), DigestUtil.digest(documentFile));
+  }
+
+  @Test
+  @DisplayName("Upload document content from stream")
+  void uploadDocumentContentFromStreamTest() {
+    SampleDocument sampleDocument = TestDataUtil.getSampleDocument(TestDocumentType.PNG);
+    DocumentUploadContent content = DocumentUploadContent.ofInputStream(
+        new ByteArrayInputStream(sampleDocument.getContent()));
+    Response uploadResponse = createDocumentSteps.uploadDocumentContent(TestDocumentType.PNG,
+        content);
+    createDocumentSteps.checkUploadContentCannotBeSentTwice(content);
+    createDocumentSteps.checkUploadedDocumentMatches(
+        createDocumentSteps.getScannedDocumentId(uploadResponse), sampleDocument.getDigest());
+  }
+
+  @Test
+  @DisplayName("Upload document content of known length from stream by async client")
+  void uploadDocumentContentWithContentLengthTest() {
+    SampleDocument sampleDocument = TestDataUtil.getSampleDocument(TestDocumentType.PDF);
+    String documentId = createDocumentSteps.uploadDocumentContentByAsyncClient(
+        TestDocumentType.PDF, DocumentUploadContent.ofInputStream(
+            new ByteArrayInputStream(sampleDocument.getContent()), sampleDocument.getSize()));
+    createDocumentSteps.waitForAntivirusScanToBeCompleted(documentId);
+    createDocumentSteps.checkUploadedDocumentMatches(documentId, sampleDocument.getDigest());
+  }
+
   //------------------------Mandatory parameters verification----------------------------
   @Test
   @DisplayName("Upload PDF document with specified document title")
@@ -50,6 +50,15 @@ class DownloadDocumentTest extends EndpointTestRunner {
     downloadDocumentSteps.checkDownloadDocumentResponse(downloadResponse, testDocument);
   }
 
+  @Test
+  @DisplayName("Download document by document id as a stream and verify its digest")
+  void downloadDocumentStreamWithDigestVerificationTest() {
+    String uploadedDocumentId = createDocumentSteps.getScannedDocumentId(
+        createDocumentSteps.uploadDocumentByType(TestDocumentType.PDF));
+    createDocumentSteps.checkUploadedDocumentMatches(uploadedDocumentId,
+        downloadDocumentSteps.downloadDocumentDigestByDocumentId(uploadedDocumentId));
+  }
+
   @Test
   @DisplayName("Download document using invalid document Id")
   void downloadDocumentWithInvalidDocumentIdTest() {
@@ -2,8 +2,10 @@ package com.baks.tests;
 
 import static com.baks.constants.ConfigurationConstants.PAGE_SIZE_DEFAULT_VALUE;
 
+import com.baks.enums.PaginationMode;
 import com.baks.pojo.response.DocumentDetailsObject;
 import com.baks.runners.EndpointTestRunner;
+import com.baks.service.DocumentsScanResult;
 import com.baks.steps.FilterDocumentsSteps;
 import com.baks.utils.TestDataUtil;
 import io.qameta.allure.Epic;
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Isolated
@@ -261,6 +265,25 @@ class FilterDocumentsPaginationTest extends EndpointTestRunner {
     filterDocumentsSteps.checkInvalidPageOffsetErrorMsg(filterResponse, invalidValue);
   }
 
+  @ParameterizedTest
+  @DisplayName("Walk all filtered documents page by page")
+  @EnumSource(PaginationMode.class)
+  void walkAllFilteredDocumentsPageByPageTest(PaginationMode paginationMode) {
+    int initialCount = filterDocumentsSteps.getQuantityOfNotDeletedDocuments();
+    List<DocumentDetailsObject> listOfDocuments = filterDocumentsSteps
+        .getAllNotDeletedDocumentsByPages(paginationMode, PAGE_SIZE_DEFAULT_VALUE);
+    filterDocumentsSteps.checkAllNotDeletedDocumentsWalked(listOfDocuments, initialCount,
+        filterDocumentsSteps.getQuantityOfNotDeletedDocuments());
+  }
+
+  @Test
+  @DisplayName("Get all filtered documents by concurrent requests of pages")
+  void scanAllFilteredDocumentsTest() {
+    DocumentsScanResult scanResult = filterDocumentsSteps.scanAllNotDeletedDocuments();
+    filterDocumentsSteps.checkAllNotDeletedDocumentsWalked(scanResult.getDocuments(),
+        scanResult.getInitialCount(), scanResult.getFinalCount());
+  }
+
   private void checkDefaultPageSizeResponse(Response filterResponse, String assertionMessage) {
     filterDocumentsSteps.checkResponseStatusCodeIs200(filterResponse, assertionMessage);
     List<DocumentDetailsObject> listOfDocuments =